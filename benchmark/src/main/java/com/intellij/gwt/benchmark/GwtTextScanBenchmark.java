@@ -0,0 +1,294 @@
+package com.intellij.gwt.benchmark;
+
+import com.intellij.gwt.base.i18n.GwtI18nUtil;
+import com.intellij.gwt.base.module.index.GwtHtmlUtil;
+import com.intellij.gwt.base.module.index.GwtRootPanelIdIndex;
+import com.intellij.gwt.impl.make.GwtCompilePhase;
+import com.intellij.gwt.impl.make.GwtCompilerOutputParser;
+import com.intellij.gwt.jsinject.GwtJsniUtil;
+import com.intellij.java.language.LanguageLevel;
+import com.intellij.java.language.psi.PsiNameHelper;
+import consulo.compiler.CompilerMessageCategory;
+import consulo.localize.LocalizeValue;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static text functions which run for every indexed file or i18n property, and parsing of the GWT compiler output. Inputs are generated once
+ * per trial and have the shape of typical GWT sources: a host page with a module script, a widget class with JSNI methods and
+ * <code>RootPanel.get("id")</code> calls, property keys and values of a Messages interface, and a compiler log with <code>-logLevel TRACE</code>.
+ * A recorded compiler log can be used instead of the generated one with <code>-Dgwt.benchmark.compilerLog=path</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GwtTextScanBenchmark
+{
+	private static final int MEMBERS = 200;
+	private static final int PROPERTIES = 500;
+	private static final int PERMUTATIONS = 12;
+	private static final int OUTPUT_CHUNK_SIZE = 8192;
+	@NonNls
+	private static final String COMPILER_LOG_PROPERTY = "gwt.benchmark.compilerLog";
+
+	private String myHostPage;
+	private String myJavaSource;
+	private String[] myPropertyNames;
+	private String[] myPropertyValues;
+	private PsiNameHelper myNameHelper;
+	private String[] myCompilerOutputChunks;
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		myHostPage = createHostPage();
+		myJavaSource = createJavaSource();
+		myPropertyNames = new String[PROPERTIES];
+		myPropertyValues = new String[PROPERTIES];
+		for(int i = 0; i < PROPERTIES; i++)
+		{
+			myPropertyNames[i] = "dialog.section" + i % 17 + ".button-" + i + ".text";
+			myPropertyValues[i] = i % 3 == 0 ? "Opened {0} of {1,number} items, last one at {2,time,short}" : "Click here to open item " + i + " of {0}";
+		}
+		myNameHelper = new SourceVersionNameHelper();
+
+		String logPath = System.getProperty(COMPILER_LOG_PROPERTY);
+		String compilerLog = logPath != null ? new String(Files.readAllBytes(Paths.get(logPath)), StandardCharsets.UTF_8) : createCompilerLog();
+		myCompilerOutputChunks = splitIntoChunks(compilerLog);
+	}
+
+	@Benchmark
+	public Map<String, Void> collectGwtModules()
+	{
+		Map<String, Void> result = new HashMap<String, Void>();
+		GwtHtmlUtil.collectGwtModules(myHostPage, result);
+		return result;
+	}
+
+	@Benchmark
+	public Map<String, Void> collectReferencedMemberNames()
+	{
+		Map<String, Void> result = new HashMap<String, Void>();
+		GwtJsniUtil.collectReferencedMemberNames(myJavaSource, result);
+		return result;
+	}
+
+	@Benchmark
+	public Map<String, int[]> collectCallSites()
+	{
+		Map<String, int[]> result = new HashMap<String, int[]>();
+		GwtRootPanelIdIndex.collectCallSites(myJavaSource, result);
+		return result;
+	}
+
+	@Benchmark
+	public void convertPropertyName2MethodName(Blackhole blackhole)
+	{
+		for(String name : myPropertyNames)
+		{
+			blackhole.consume(GwtI18nUtil.convertPropertyName2MethodName(name, myNameHelper, LanguageLevel.JDK_1_8));
+		}
+	}
+
+	@Benchmark
+	public void suggestPropertyKey(Blackhole blackhole)
+	{
+		for(String value : myPropertyValues)
+		{
+			blackhole.consume(GwtI18nUtil.suggetsPropertyKey(value, myNameHelper, LanguageLevel.JDK_1_8));
+		}
+	}
+
+	@Benchmark
+	public void getParametersCount(Blackhole blackhole)
+	{
+		for(String value : myPropertyValues)
+		{
+			blackhole.consume(GwtI18nUtil.getParametersCount(value));
+		}
+	}
+
+	/**
+	 * Output arrives in chunks which don't end at line boundaries, like from a running compiler process
+	 */
+	@Benchmark
+	public int parseCompilerOutput()
+	{
+		CountingListener listener = new CountingListener();
+		GwtCompilerOutputParser parser = new GwtCompilerOutputParser(listener, null, false);
+		for(String chunk : myCompilerOutputChunks)
+		{
+			parser.parseOutput(chunk);
+		}
+		return listener.myEvents;
+	}
+
+	private static String createHostPage()
+	{
+		StringBuilder builder = new StringBuilder();
+		builder.append("<!DOCTYPE html>\n<html>\n<head>\n");
+		builder.append("  <meta http-equiv=\"content-type\" content=\"text/html; charset=UTF-8\">\n");
+		builder.append("  <link type=\"text/css\" rel=\"stylesheet\" href=\"App.css\">\n");
+		builder.append("  <title>Application</title>\n");
+		builder.append("  <script type=\"text/javascript\" language=\"javascript\" src=\"com.example.App/com.example.App.nocache.js\"></script>\n");
+		builder.append("</head>\n<body>\n");
+		for(int i = 0; i < MEMBERS; i++)
+		{
+			builder.append("  <div id=\"slot").append(i).append("\" class=\"slot\"><span>Item ").append(i).append("</span></div>\n");
+		}
+		builder.append("  <iframe src=\"javascript:''\" id=\"__gwt_historyFrame\" tabIndex='-1' style=\"position:absolute;width:0;height:0;border:0\"></iframe>\n");
+		builder.append("</body>\n</html>\n");
+		return builder.toString();
+	}
+
+	private static String createJavaSource()
+	{
+		StringBuilder builder = new StringBuilder();
+		builder.append("package com.example.client;\n\n");
+		builder.append("import com.google.gwt.user.client.ui.RootPanel;\n\n");
+		builder.append("public class Widgets\n{\n");
+		for(int i = 0; i < MEMBERS; i++)
+		{
+			builder.append("\tprivate int myField").append(i).append(";\n\n");
+			builder.append("\tpublic void attach").append(i).append("()\n\t{\n");
+			builder.append("\t\tRootPanel.get(\"slot").append(i).append("\").add(new Label(\"Item ").append(i).append("\"));\n");
+			builder.append("\t}\n\n");
+			builder.append("\tprivate native void bind").append(i).append("(Object element) /*-{\n");
+			builder.append("\t\tvar self = this;\n");
+			builder.append("\t\telement.onclick = $entry(function() { self.@com.example.client.Widgets::attach").append(i).append("()(); });\n");
+			builder.append("\t\treturn this.@com.example.client.Widgets::myField").append(i).append(";\n");
+			builder.append("\t}-*/;\n\n");
+		}
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	private static String createCompilerLog()
+	{
+		StringBuilder builder = new StringBuilder();
+		builder.append("Loading inherited module 'com.example.App'\n");
+		for(int i = 0; i < MEMBERS; i++)
+		{
+			builder.append("   Loading inherited module 'com.example.lib").append(i).append(".Lib'\n");
+			builder.append("      [TRACE] Module location: file:/home/user/app/lib").append(i).append("/src/com/example/lib").append(i).append("/Lib.gwt.xml\n");
+		}
+		builder.append("Compiling module com.example.App\n");
+		builder.append("   Analyzing source in module 'com.example.App'\n");
+		for(int i = 0; i < MEMBERS; i++)
+		{
+			builder.append("      [TRACE] Compiling unit com.example.client.Widget").append(i).append("\n");
+			builder.append("         Type com.example.client.Widget").append(i).append(" has no default constructor\n");
+			builder.append("         [WARN] Field myField").append(i).append(" is never used\n");
+		}
+		builder.append("   [ERROR] Errors in 'file:/home/user/app/src/com/example/client/Widgets.java'\n");
+		builder.append("      [ERROR] Line 42: The method attach(int) is undefined for the type Widgets\n");
+		for(int i = 0; i < PERMUTATIONS; i++)
+		{
+			builder.append("   Compiling permutation ").append(i).append("...\n");
+			for(int j = 0; j < MEMBERS / 4; j++)
+			{
+				builder.append("      [TRACE] Optimizing method com.example.client.Widget").append(j).append("::attach").append(j).append("()V\n");
+			}
+		}
+		builder.append("   Compile of permutations succeeded\n");
+		builder.append("Linking into /home/user/app/war/app\n");
+		builder.append("   Link succeeded\n");
+		builder.append("   Compilation succeeded -- 42.125s\n");
+		return builder.toString();
+	}
+
+	private static String[] splitIntoChunks(String text)
+	{
+		String[] chunks = new String[(text.length() + OUTPUT_CHUNK_SIZE - 1) / OUTPUT_CHUNK_SIZE];
+		for(int i = 0; i < chunks.length; i++)
+		{
+			chunks[i] = text.substring(i * OUTPUT_CHUNK_SIZE, Math.min(text.length(), (i + 1) * OUTPUT_CHUNK_SIZE));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Counts recognized events instead of reporting them, class names aren't resolved
+	 */
+	private static class CountingListener implements GwtCompilerOutputParser.Listener
+	{
+		private int myEvents;
+
+		@Override
+		public void addMessage(@Nonnull CompilerMessageCategory category, @Nonnull String message, @Nullable String url, int line, int column)
+		{
+			myEvents++;
+		}
+
+		@Override
+		public void setProgressText(@Nonnull LocalizeValue text)
+		{
+			myEvents++;
+		}
+
+		@Override
+		public void startPhase(@Nonnull GwtCompilePhase phase)
+		{
+			myEvents++;
+		}
+
+		@Override
+		public void startPermutation(@Nonnull String permutation)
+		{
+			myEvents++;
+		}
+
+		@Nullable
+		@Override
+		public String findClassFileUrl(@Nonnull String className)
+		{
+			myEvents++;
+			return null;
+		}
+	}
+
+	/**
+	 * Identifier checks without a project, enough for the name conversions
+	 */
+	private static class SourceVersionNameHelper extends PsiNameHelper
+	{
+		@Override
+		public boolean isIdentifier(String text)
+		{
+			return text != null && SourceVersion.isIdentifier(text) && !SourceVersion.isKeyword(text);
+		}
+
+		@Override
+		public boolean isIdentifier(String text, LanguageLevel languageLevel)
+		{
+			return isIdentifier(text);
+		}
+
+		@Override
+		public boolean isKeyword(String text)
+		{
+			return text != null && SourceVersion.isKeyword(text);
+		}
+
+		@Override
+		public boolean isQualifiedName(String text)
+		{
+			return text != null && SourceVersion.isName(text);
+		}
+	}
+}
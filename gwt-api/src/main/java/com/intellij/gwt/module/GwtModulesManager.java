@@ -34,6 +34,7 @@ import org.jetbrains.annotations.NonNls;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author nik
@@ -101,6 +102,12 @@ public abstract class GwtModulesManager
 
 	public abstract boolean isInheritedOrSelf(GwtModule gwtModule, List<GwtModule> referencedModules);
 
+	/**
+	 * @return the module itself and all modules it inherits directly or transitively
+	 */
+	@Nonnull
+	public abstract Set<GwtModule> getInheritedModules(@Nonnull GwtModule gwtModule);
+
 	public abstract boolean isLibraryModule(GwtModule module);
 
 	public abstract boolean isUnderGwtModule(final VirtualFile virtualFile);
@@ -0,0 +1,190 @@
+package com.intellij.gwt.sdk;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Release version of GWT (e.g. 2.8.2) as declared by the jars of an SDK, with the features which depend on it.
+ */
+public final class GwtReleaseVersion implements Comparable<GwtReleaseVersion>
+{
+	private final int myMajor;
+	private final int myMinor;
+	private final int myPatch;
+	private final String myQualifier;
+	private final String myText;
+
+	public GwtReleaseVersion(int major, int minor, int patch, @Nonnull String text)
+	{
+		myMajor = major;
+		myMinor = minor;
+		myPatch = patch;
+		myQualifier = getQualifier(text);
+		myText = text;
+	}
+
+	/**
+	 * @return suffix after the numeric part, e.g. {@code rc1} for {@code 2.9.0-rc1}
+	 */
+	@Nonnull
+	private static String getQualifier(@Nonnull String text)
+	{
+		int i = 0;
+		while(i < text.length() && (Character.isDigit(text.charAt(i)) || text.charAt(i) == '.'))
+		{
+			i++;
+		}
+		while(i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '_'))
+		{
+			i++;
+		}
+		return text.substring(i);
+	}
+
+	/**
+	 * Parses versions like {@code 2.8.2}, {@code 2.9.0-rc1} or {@code 0.0.0-SNAPSHOT}.
+	 */
+	@Nullable
+	public static GwtReleaseVersion parse(@Nullable String text)
+	{
+		if(text == null)
+		{
+			return null;
+		}
+		text = text.trim();
+		int[] parts = new int[3];
+		int part = 0;
+		int i = 0;
+		while(part < parts.length && i < text.length())
+		{
+			int start = i;
+			while(i < text.length() && Character.isDigit(text.charAt(i)))
+			{
+				i++;
+			}
+			if(start == i)
+			{
+				break;
+			}
+			parts[part++] = Integer.parseInt(text.substring(start, Math.min(i, start + 9)));
+			if(i < text.length() && text.charAt(i) == '.')
+			{
+				i++;
+			}
+			else
+			{
+				break;
+			}
+		}
+		return part == 0 ? null : new GwtReleaseVersion(parts[0], parts[1], parts[2], text);
+	}
+
+	public int getMajor()
+	{
+		return myMajor;
+	}
+
+	public int getMinor()
+	{
+		return myMinor;
+	}
+
+	public int getPatch()
+	{
+		return myPatch;
+	}
+
+	/**
+	 * Trunk builds of GWT are versioned as 0.0.0
+	 */
+	public boolean isDevelopmentBuild()
+	{
+		return myMajor == 0 && myMinor == 0 && myPatch == 0;
+	}
+
+	public boolean isAtLeast(int major, int minor)
+	{
+		return isDevelopmentBuild() || myMajor > major || myMajor == major && myMinor >= minor;
+	}
+
+	/**
+	 * {@code -sourceLevel} compiler option, GWT 2.6+
+	 */
+	public boolean isSourceLevelSupported()
+	{
+		return isAtLeast(2, 6);
+	}
+
+	/**
+	 * {@code -incremental} compile in Super Dev Mode, GWT 2.7+
+	 */
+	public boolean isIncrementalCompileSupported()
+	{
+		return isAtLeast(2, 7);
+	}
+
+	/**
+	 * Code server ({@code com.google.gwt.dev.codeserver.CodeServer}), GWT 2.5+
+	 */
+	public boolean isSuperDevModeSupported()
+	{
+		return isAtLeast(2, 5);
+	}
+
+	/**
+	 * Java 8 source level, GWT 2.8+
+	 */
+	public boolean isJava8Supported()
+	{
+		return isAtLeast(2, 8);
+	}
+
+	@Override
+	public int compareTo(@Nonnull GwtReleaseVersion o)
+	{
+		if(myMajor != o.myMajor)
+		{
+			return Integer.compare(myMajor, o.myMajor);
+		}
+		if(myMinor != o.myMinor)
+		{
+			return Integer.compare(myMinor, o.myMinor);
+		}
+		if(myPatch != o.myPatch)
+		{
+			return Integer.compare(myPatch, o.myPatch);
+		}
+		// a release is newer than its pre-releases (2.9.0-rc1 < 2.9.0)
+		if(myQualifier.isEmpty() || o.myQualifier.isEmpty())
+		{
+			return Boolean.compare(myQualifier.isEmpty(), o.myQualifier.isEmpty());
+		}
+		return myQualifier.compareTo(o.myQualifier);
+	}
+
+	/**
+	 * Consistent with {@link #compareTo}: {@code 2.8} and {@code 2.8.0} are equal
+	 */
+	@Override
+	public boolean equals(Object o)
+	{
+		if(!(o instanceof GwtReleaseVersion))
+		{
+			return false;
+		}
+		GwtReleaseVersion version = (GwtReleaseVersion) o;
+		return myMajor == version.myMajor && myMinor == version.myMinor && myPatch == version.myPatch && myQualifier.equals(version.myQualifier);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return ((myMajor * 31 + myMinor) * 31 + myPatch) * 31 + myQualifier.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		return myText;
+	}
+}
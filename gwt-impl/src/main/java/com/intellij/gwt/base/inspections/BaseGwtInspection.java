@@ -16,6 +16,8 @@
 
 package com.intellij.gwt.base.inspections;
 
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.analysis.impl.codeInspection.BaseJavaLocalInspectionTool;
 import com.intellij.java.language.psi.PsiClass;
@@ -29,6 +31,7 @@ import consulo.language.editor.inspection.ProblemDescriptor;
 import consulo.language.editor.inspection.scheme.InspectionManager;
 import consulo.language.editor.rawHighlight.HighlightDisplayLevel;
 import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
 import consulo.language.util.ModuleUtilCore;
 import consulo.localize.LocalizeValue;
 import jakarta.annotation.Nonnull;
@@ -38,15 +41,99 @@ import jakarta.annotation.Nullable;
  * @author nik
  */
 public abstract class BaseGwtInspection<State> extends BaseJavaLocalInspectionTool<State> {
+    private volatile GwtMetric myCheckClassMetric;
+    private volatile GwtMetric myCheckFileMetric;
+
     @Override
     @RequiredReadAction
     public final ProblemDescriptor[] checkClass(@Nonnull final PsiClass aClass, @Nonnull final InspectionManager manager, final boolean isOnTheFly, State state) {
+        return checkClass(aClass, manager, isOnTheFly, state, new GwtClientCodeContext(manager.getProject()));
+    }
+
+    /**
+     * Checks the class using lookups of the given context, whole-project passes call this with precomputed tables.
+     */
+    @Nullable
+    @RequiredReadAction
+    public final ProblemDescriptor[] checkClass(@Nonnull PsiClass aClass,
+                                                @Nonnull InspectionManager manager,
+                                                boolean isOnTheFly,
+                                                State state,
+                                                @Nonnull GwtClientCodeContext context) {
         GoogleGwtModuleExtension extension = getExtension(aClass);
         if (extension == null) {
             return ProblemDescriptor.EMPTY_ARRAY;
         }
 
-        GwtVersion version = GwtModuleExtensionUtil.getVersion(extension);
+        if (myCheckClassMetric == null) {
+            myCheckClassMetric = GwtTelemetry.getMetric("inspection." + getShortName() + ".checkClass");
+        }
+        long start = myCheckClassMetric.start();
+        try {
+            GwtVersion version = GwtModuleExtensionUtil.getVersion(extension);
+            return checkClassImpl(extension, version, aClass, manager, isOnTheFly, state, context);
+        }
+        finally {
+            myCheckClassMetric.stop(start);
+        }
+    }
+
+    @Override
+    @Nullable
+    public final ProblemDescriptor[] checkFile(@Nonnull PsiFile file, @Nonnull InspectionManager manager, boolean isOnTheFly, State state) {
+        return checkFile(file, manager, isOnTheFly, state, new GwtClientCodeContext(manager.getProject()));
+    }
+
+    /**
+     * Checks the file using lookups of the given context, whole-project passes call this with precomputed tables.
+     */
+    @Nullable
+    public final ProblemDescriptor[] checkFile(@Nonnull PsiFile file,
+                                               @Nonnull InspectionManager manager,
+                                               boolean isOnTheFly,
+                                               State state,
+                                               @Nonnull GwtClientCodeContext context) {
+        if (myCheckFileMetric == null) {
+            myCheckFileMetric = GwtTelemetry.getMetric("inspection." + getShortName() + ".checkFile");
+        }
+        long start = myCheckFileMetric.start();
+        try {
+            return checkFileImpl(file, manager, isOnTheFly, state, context);
+        }
+        finally {
+            myCheckFileMetric.stop(start);
+        }
+    }
+
+    /**
+     * Override this method instead of {@link #checkFileImpl(PsiFile, InspectionManager, boolean, Object)} to use project-wide lookups
+     */
+    @Nullable
+    public ProblemDescriptor[] checkFileImpl(@Nonnull PsiFile file,
+                                             @Nonnull InspectionManager manager,
+                                             boolean isOnTheFly,
+                                             State state,
+                                             @Nonnull GwtClientCodeContext context) {
+        return checkFileImpl(file, manager, isOnTheFly, state);
+    }
+
+    @Nullable
+    public ProblemDescriptor[] checkFileImpl(@Nonnull PsiFile file, @Nonnull InspectionManager manager, boolean isOnTheFly, State state) {
+        return null;
+    }
+
+    /**
+     * Override this method instead of {@link #checkClassImpl(GoogleGwtModuleExtension, GwtVersion, PsiClass, InspectionManager, boolean, Object)}
+     * to use project-wide lookups
+     */
+    @Nullable
+    public ProblemDescriptor[] checkClassImpl(@Nonnull GoogleGwtModuleExtension extension,
+                                              @Nonnull GwtVersion version,
+                                              @Nonnull PsiClass aClass,
+                                              @Nonnull InspectionManager manager,
+                                              boolean isOnTheFly,
+                                              State state,
+                                              @Nonnull GwtClientCodeContext context) {
         return checkClassImpl(extension, version, aClass, manager, isOnTheFly, state);
     }
 
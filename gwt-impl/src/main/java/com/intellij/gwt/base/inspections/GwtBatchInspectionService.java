@@ -0,0 +1,27 @@
+package com.intellij.gwt.base.inspections;
+
+import consulo.annotation.component.ComponentScope;
+import consulo.annotation.component.ServiceAPI;
+import consulo.application.progress.ProgressIndicator;
+import consulo.ide.ServiceManager;
+import consulo.project.Project;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Runs all GWT inspections over Java sources of GWT modules of the project without UI, e.g. from headless runs and development tools.
+ * Results of checked files are cached between runs.
+ */
+@ServiceAPI(ComponentScope.PROJECT)
+public abstract class GwtBatchInspectionService {
+    public static GwtBatchInspectionService getInstance(@Nonnull Project project) {
+        return ServiceManager.getService(project, GwtBatchInspectionService.class);
+    }
+
+    /**
+     * Must be called outside of a read action, read actions are taken for each checked file.
+     *
+     * @param incremental check only files changed since the previous run and client files of GWT modules which depend on them
+     * @return number of problems found
+     */
+    public abstract int inspect(@Nonnull ProgressIndicator indicator, boolean incremental);
+}
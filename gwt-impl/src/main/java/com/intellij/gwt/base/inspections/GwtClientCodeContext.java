@@ -0,0 +1,120 @@
+package com.intellij.gwt.base.inspections;
+
+import com.intellij.gwt.base.rpc.RemoteServiceUtil;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import com.intellij.java.language.psi.PsiClass;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
+import consulo.gwt.base.module.extension.GwtModuleExtensionUtil;
+import consulo.gwt.base.module.extension.path.GwtJreEmulationCatalog;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
+import consulo.language.psi.PsiModificationTracker;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.Project;
+import consulo.util.dataholder.Key;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project-wide lookups used by client code inspections: owning GWT modules of client files, inherited modules, JRE emulation catalogs and
+ * RPC service interfaces. This implementation computes them on demand for on-the-fly inspections, whole-project validation passes tables
+ * built once for all checked files instead.
+ */
+public class GwtClientCodeContext {
+    private static final Key<CachedValue<Map<VirtualFile, List<GwtModule>>>> CLIENT_FILE_MODULES_KEY = Key.create("GWT_CLIENT_FILE_MODULES");
+
+    protected final Project myProject;
+
+    public GwtClientCodeContext(@Nonnull Project project) {
+        myProject = project;
+    }
+
+    @Nonnull
+    public Project getProject() {
+        return myProject;
+    }
+
+    /**
+     * @return GWT modules containing the file in their client source roots
+     */
+    @Nonnull
+    @RequiredReadAction
+    public List<GwtModule> findGwtModulesByClientSourceFile(@Nonnull VirtualFile file) {
+        Map<VirtualFile, List<GwtModule>> cache = getClientFileModulesCache(myProject);
+        List<GwtModule> modules = cache.get(file);
+        if (modules == null) {
+            modules = GwtModulesManager.getInstance(myProject).findGwtModulesByClientSourceFile(file);
+            cache.put(file, modules);
+        }
+        return modules;
+    }
+
+    /**
+     * @return {@code true} if {@code gwtModule} is one of {@code referencedModules} or inherits one of them
+     */
+    @RequiredReadAction
+    public boolean isInheritedOrSelf(@Nonnull GwtModule gwtModule, @Nonnull List<GwtModule> referencedModules) {
+        return GwtModulesManager.getInstance(myProject).isInheritedOrSelf(gwtModule, referencedModules);
+    }
+
+    /**
+     * @return catalog of the JRE emulation library of the GWT SDK used by the extension, {@code null} if the SDK jar isn't found
+     */
+    @Nullable
+    public GwtJreEmulationCatalog getJreEmulationCatalog(@Nonnull GoogleGwtModuleExtension<?> extension) {
+        return findJreEmulationCatalog(extension);
+    }
+
+    @Nullable
+    public static GwtJreEmulationCatalog findJreEmulationCatalog(@Nonnull GoogleGwtModuleExtension<?> extension) {
+        GwtLibraryPathProvider.Info info = GwtModuleExtensionUtil.getLibraryInfo(extension);
+        assert info != null;
+        String userJarPath = info.getUserJarPath();
+        return userJarPath != null ? GwtJreEmulationCatalog.getCatalog(userJarPath) : null;
+    }
+
+    @RequiredReadAction
+    public boolean isRemoteServiceInterface(@Nonnull PsiClass aClass) {
+        return RemoteServiceUtil.isRemoteServiceInterface(aClass);
+    }
+
+    @Nullable
+    @RequiredReadAction
+    public PsiClass findAsynchronousInterface(@Nonnull PsiClass service) {
+        return RemoteServiceUtil.findAsynchronousInterface(service);
+    }
+
+    @Nullable
+    @RequiredReadAction
+    public PsiClass findSynchronousInterface(@Nonnull PsiClass async) {
+        return RemoteServiceUtil.findSynchronousInterface(async);
+    }
+
+    /**
+     * Owning GWT modules of client source files. The map is shared by all files checked until the next PSI or roots change.
+     */
+    @Nonnull
+    private static Map<VirtualFile, List<GwtModule>> getClientFileModulesCache(@Nonnull final Project project) {
+        CachedValue<Map<VirtualFile, List<GwtModule>>> value = project.getUserData(CLIENT_FILE_MODULES_KEY);
+        if (value == null) {
+            value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<Map<VirtualFile, List<GwtModule>>>() {
+                @Override
+                public Result<Map<VirtualFile, List<GwtModule>>> compute() {
+                    Map<VirtualFile, List<GwtModule>> map = new ConcurrentHashMap<VirtualFile, List<GwtModule>>();
+                    return Result.create(map, PsiModificationTracker.MODIFICATION_COUNT, ProjectRootManager.getInstance(project));
+                }
+            }, false);
+            project.putUserData(CLIENT_FILE_MODULES_KEY, value);
+        }
+        return value.getValue();
+    }
+}
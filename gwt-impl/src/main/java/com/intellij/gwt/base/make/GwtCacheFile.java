@@ -0,0 +1,162 @@
+package com.intellij.gwt.base.make;
+
+import consulo.logging.Logger;
+import consulo.project.Project;
+import consulo.util.io.FileUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Binary file in the GWT caches directory. The file starts with the format version and a key identifying the cached data (e.g. path of the
+ * source jar); the content is read only if both match, so changing the format or the source invalidates the file. Read and write failures
+ * aren't reported to the user, the data is recomputed instead.
+ */
+public class GwtCacheFile
+{
+	private static final Logger LOG = Logger.getInstance(GwtCacheFile.class);
+
+	private final File myFile;
+	private final int myFormatVersion;
+
+	public GwtCacheFile(@Nonnull File file, int formatVersion)
+	{
+		myFile = file;
+		myFormatVersion = formatVersion;
+	}
+
+	/**
+	 * @return file named after the given file or directory path, e.g. a jar whose content is cached
+	 */
+	@Nonnull
+	public static GwtCacheFile forPath(@NonNls @Nonnull String dirName, @Nonnull String path, int formatVersion)
+	{
+		String name = new File(path).getName() + "." + Integer.toHexString(FileUtil.toSystemIndependentName(path).hashCode());
+		return forName(dirName, name, formatVersion);
+	}
+
+	/**
+	 * @return file holding data of the given project
+	 */
+	@Nonnull
+	public static GwtCacheFile forProject(@NonNls @Nonnull String dirName, @Nonnull Project project, int formatVersion)
+	{
+		return forName(dirName, getProjectName(project), formatVersion);
+	}
+
+	/**
+	 * @return file holding one of several entries of the given project, e.g. data of a GWT module; entries of a project share a subdirectory
+	 */
+	@Nonnull
+	public static GwtCacheFile forProjectEntry(@NonNls @Nonnull String dirName, @Nonnull Project project, @Nonnull String name, int formatVersion)
+	{
+		return forName(dirName + "/" + getProjectName(project), name, formatVersion);
+	}
+
+	private static String getProjectName(@Nonnull Project project)
+	{
+		return project.getName() + "." + project.getLocationHash();
+	}
+
+	@Nonnull
+	public static GwtCacheFile forName(@NonNls @Nonnull String dirName, @Nonnull String name, int formatVersion)
+	{
+		return new GwtCacheFile(new File(new File(GwtCompilerPaths.getGwtCachesDir(), dirName), name), formatVersion);
+	}
+
+	@Nonnull
+	public File getFile()
+	{
+		return myFile;
+	}
+
+	/**
+	 * @return data read by the reader, {@code null} if the file doesn't exist, was written in another format or for another key, or can't be
+	 * read
+	 */
+	@Nullable
+	public <T> T read(@Nonnull String key, @Nonnull Reader<T> reader)
+	{
+		if(!myFile.exists())
+		{
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(myFile))))
+		{
+			if(input.readInt() != myFormatVersion || !key.equals(input.readUTF()))
+			{
+				return null;
+			}
+			return reader.read(input);
+		}
+		catch(IOException | IllegalArgumentException e)
+		{
+			LOG.debug(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the data into a temporary file and moves it over the cache file, so concurrent readers and an interrupted write never see a
+	 * partially written file.
+	 */
+	public void write(@Nonnull String key, @Nonnull Writer writer)
+	{
+		FileUtil.createParentDirs(myFile);
+		File tempFile = null;
+		try
+		{
+			tempFile = File.createTempFile(myFile.getName(), ".tmp", myFile.getParentFile());
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+			{
+				output.writeInt(myFormatVersion);
+				output.writeUTF(key);
+				writer.write(output);
+			}
+			move(tempFile, myFile);
+			tempFile = null;
+		}
+		catch(IOException e)
+		{
+			LOG.info("Cannot save " + myFile, e);
+		}
+		finally
+		{
+			if(tempFile != null)
+			{
+				FileUtil.delete(tempFile);
+			}
+		}
+	}
+
+	private static void move(File source, File target) throws IOException
+	{
+		try
+		{
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch(AtomicMoveNotSupportedException e)
+		{
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	public interface Reader<T>
+	{
+		/**
+		 * @return the data or {@code null} if it's stale
+		 */
+		@Nullable
+		T read(@Nonnull DataInputStream input) throws IOException;
+	}
+
+	public interface Writer
+	{
+		void write(@Nonnull DataOutputStream output) throws IOException;
+	}
+}
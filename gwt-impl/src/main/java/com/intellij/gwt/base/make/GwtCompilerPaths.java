@@ -61,6 +61,27 @@ public class GwtCompilerPaths
 		return new File(getTestOutputRoot(module), "www");
 	}
 
+	/**
+	 * Work directory of the code server (Super Dev Mode), it's kept across runs to make recompiles incremental
+	 */
+	public static File getCodeServerWorkDirectory(@Nonnull Module module)
+	{
+		return new File(getOutputRoot(module), "codeserver");
+	}
+
+	/**
+	 * Output of Dev Mode runs, in Super Dev Mode the code server writes launcher scripts of GWT modules to its {@code www} subdirectory
+	 */
+	public static File getRunOutputDirectory(@Nonnull Module module)
+	{
+		return new File(getOutputRoot(module), "run");
+	}
+
+	public static File getRunWebDirectory(@Nonnull Module module)
+	{
+		return new File(getRunOutputDirectory(module), "www");
+	}
+
 	private static File getTestOutputRoot(@Nonnull Module module)
 	{
 		return new File(getOutputRoot(module), "test");
@@ -1,5 +1,7 @@
 package com.intellij.gwt.base.module.index;
 
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.index.io.DataIndexer;
 import consulo.index.io.EnumeratorStringDescriptor;
@@ -26,6 +28,7 @@ public class GwtHtmlFileIndex extends ScalarIndexExtension<String>
 {
 	private static final ID<String, Void> NAME = ID.create("GwtHtmlFile");
 	private static final FileBasedIndex.InputFilter INPUT_FILTER = (project, file) -> file.getFileType() == HtmlFileType.INSTANCE;
+	private static final GwtMetric LOOKUP_METRIC = GwtTelemetry.getMetric("index.GwtHtmlFile");
 	private GwtHtmlFileIndexer myIndexer;
 	private EnumeratorStringDescriptor myKeyDescriptor;
 
@@ -76,6 +79,19 @@ public class GwtHtmlFileIndex extends ScalarIndexExtension<String>
 	}
 
 	public static Collection<VirtualFile> getHtmlFilesByModule(@Nonnull Project project, @Nonnull String moduleName)
+	{
+		long start = LOOKUP_METRIC.start();
+		try
+		{
+			return doGetHtmlFilesByModule(project, moduleName);
+		}
+		finally
+		{
+			LOOKUP_METRIC.stop(start);
+		}
+	}
+
+	private static Collection<VirtualFile> doGetHtmlFilesByModule(@Nonnull Project project, @Nonnull String moduleName)
 	{
 		final Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(NAME, moduleName, GlobalSearchScope.allScope(project));
 		final ProjectFileIndex fileIndex = ProjectRootManager.getInstance(project).getFileIndex();
@@ -0,0 +1,131 @@
+package com.intellij.gwt.base.module.index;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import com.intellij.gwt.module.GwtModulesManager;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.index.io.DataIndexer;
+import consulo.index.io.EnumeratorStringDescriptor;
+import consulo.index.io.ID;
+import consulo.index.io.KeyDescriptor;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.stub.FileBasedIndex;
+import consulo.language.psi.stub.FileContent;
+import consulo.language.psi.stub.ScalarIndexExtension;
+import consulo.module.content.ProjectFileIndex;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.DumbService;
+import consulo.project.Project;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.xml.ide.highlighter.XmlFileType;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Maps short names of GWT modules (file name without <code>.gwt.xml</code>) to their module files. Only file names are indexed, so
+ * qualified names of all modules, including modules from library jars, are available without building DOM for the files.
+ */
+@ExtensionImpl
+public class GwtModuleFileIndex extends ScalarIndexExtension<String>
+{
+	private static final ID<String, Void> NAME = ID.create("GwtModuleFile");
+	private static final FileBasedIndex.InputFilter INPUT_FILTER = (project, file) -> file.getFileType() == XmlFileType.INSTANCE && file.getName()
+			.endsWith(GwtModulesManager.GWT_XML_SUFFIX);
+	private static final GwtMetric LOOKUP_METRIC = GwtTelemetry.getMetric("index.GwtModuleFile");
+	private final GwtModuleFileIndexer myIndexer = new GwtModuleFileIndexer();
+	private final EnumeratorStringDescriptor myKeyDescriptor = new EnumeratorStringDescriptor();
+
+	@Nonnull
+	@Override
+	public ID<String, Void> getName()
+	{
+		return NAME;
+	}
+
+	@Nonnull
+	@Override
+	public DataIndexer<String, Void, FileContent> getIndexer()
+	{
+		return myIndexer;
+	}
+
+	@Nonnull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor()
+	{
+		return myKeyDescriptor;
+	}
+
+	@Nonnull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter()
+	{
+		return INPUT_FILTER;
+	}
+
+	@Override
+	public boolean dependsOnFileContent()
+	{
+		return false;
+	}
+
+	@Override
+	public int getVersion()
+	{
+		return 0;
+	}
+
+	/**
+	 * @return sorted qualified names of GWT modules located in sources, resources or library classes within {@code scope}
+	 */
+	@Nonnull
+	public static Set<String> getModuleNames(@Nonnull Project project, @Nonnull GlobalSearchScope scope)
+	{
+		if(DumbService.isDumb(project))
+		{
+			return Collections.emptySet();
+		}
+
+		long start = LOOKUP_METRIC.start();
+		FileBasedIndex index = FileBasedIndex.getInstance();
+		ProjectFileIndex fileIndex = ProjectRootManager.getInstance(project).getFileIndex();
+		Set<String> result = new TreeSet<String>();
+		try
+		{
+			for(String shortName : index.getAllKeys(NAME, project))
+			{
+				for(VirtualFile file : index.getContainingFiles(NAME, shortName, scope))
+				{
+					VirtualFile directory = file.getParent();
+					String packageName = directory != null ? fileIndex.getPackageNameByDirectory(directory) : null;
+					if(packageName == null)
+					{
+						continue;
+					}
+
+					result.add(packageName.isEmpty() ? shortName : packageName + "." + shortName);
+				}
+			}
+		}
+		finally
+		{
+			LOOKUP_METRIC.stop(start);
+		}
+		return result;
+	}
+
+	private static class GwtModuleFileIndexer implements DataIndexer<String, Void, FileContent>
+	{
+		@Override
+		@Nonnull
+		public Map<String, Void> map(FileContent inputData)
+		{
+			String name = inputData.getFileName();
+			return Collections.singletonMap(name.substring(0, name.length() - GwtModulesManager.GWT_XML_SUFFIX.length()), null);
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package com.intellij.gwt.base.module.index;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import com.intellij.java.language.impl.JavaFileType;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.index.io.DataIndexer;
+import consulo.index.io.EnumeratorStringDescriptor;
+import consulo.index.io.ID;
+import consulo.index.io.KeyDescriptor;
+import consulo.index.io.data.DataExternalizer;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.stub.FileBasedIndex;
+import consulo.language.psi.stub.FileBasedIndexExtension;
+import consulo.language.psi.stub.FileContent;
+import consulo.util.lang.Pair;
+import consulo.virtualFileSystem.VirtualFile;
+import org.jetbrains.annotations.NonNls;
+
+import jakarta.annotation.Nonnull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Maps element ids passed to <code>RootPanel.get("id")</code> to offsets of the string literals in Java files. Call sites are found in the
+ * file text directly, so the index doesn't require PSI; consumers are expected to check the literal at the offset.
+ */
+@ExtensionImpl
+public class GwtRootPanelIdIndex extends FileBasedIndexExtension<String, int[]>
+{
+	private static final ID<String, int[]> NAME = ID.create("GwtRootPanelId");
+	@NonNls
+	private static final String ROOT_PANEL = "RootPanel";
+	@NonNls
+	private static final String GET = "get";
+	private static final FileBasedIndex.InputFilter INPUT_FILTER = (project, file) -> file.getFileType() == JavaFileType.INSTANCE;
+	private static final GwtMetric LOOKUP_METRIC = GwtTelemetry.getMetric("index.GwtRootPanelId");
+	private final GwtRootPanelIdIndexer myIndexer = new GwtRootPanelIdIndexer();
+	private final EnumeratorStringDescriptor myKeyDescriptor = new EnumeratorStringDescriptor();
+	private final OffsetsExternalizer myValueExternalizer = new OffsetsExternalizer();
+
+	@Nonnull
+	@Override
+	public ID<String, int[]> getName()
+	{
+		return NAME;
+	}
+
+	@Nonnull
+	@Override
+	public DataIndexer<String, int[], FileContent> getIndexer()
+	{
+		return myIndexer;
+	}
+
+	@Nonnull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor()
+	{
+		return myKeyDescriptor;
+	}
+
+	@Nonnull
+	@Override
+	public DataExternalizer<int[]> getValueExternalizer()
+	{
+		return myValueExternalizer;
+	}
+
+	@Nonnull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter()
+	{
+		return INPUT_FILTER;
+	}
+
+	@Override
+	public boolean dependsOnFileContent()
+	{
+		return true;
+	}
+
+	@Override
+	public int getVersion()
+	{
+		return 0;
+	}
+
+	/**
+	 * @return files with <code>RootPanel.get(id)</code> calls and offsets of the id literals in them
+	 */
+	@Nonnull
+	public static List<Pair<VirtualFile, int[]>> getCallSites(@Nonnull String id, @Nonnull GlobalSearchScope scope)
+	{
+		long start = LOOKUP_METRIC.start();
+		final List<Pair<VirtualFile, int[]>> result = new ArrayList<Pair<VirtualFile, int[]>>();
+		try
+		{
+			FileBasedIndex.getInstance().processValues(NAME, id, null, (file, offsets) -> {
+				result.add(Pair.create(file, offsets));
+				return true;
+			}, scope);
+		}
+		finally
+		{
+			LOOKUP_METRIC.stop(start);
+		}
+		return result;
+	}
+
+	/**
+	 * Collects ids of <code>RootPanel.get("id")</code> calls in the Java file text with offsets of the opening quotes of their literals
+	 */
+	public static void collectCallSites(@Nonnull CharSequence text, @Nonnull Map<String, int[]> result)
+	{
+		int start = indexOf(text, ROOT_PANEL, 0);
+		while(start != -1)
+		{
+			int i = start + ROOT_PANEL.length();
+			if(start == 0 || !Character.isJavaIdentifierPart(text.charAt(start - 1)))
+			{
+				i = skipWhitespaces(text, i);
+				if(i < text.length() && text.charAt(i) == '.')
+				{
+					i = skipWhitespaces(text, i + 1);
+					if(startsWith(text, i, GET))
+					{
+						i = skipWhitespaces(text, i + GET.length());
+						if(i < text.length() && text.charAt(i) == '(')
+						{
+							i = skipWhitespaces(text, i + 1);
+							if(i < text.length() && text.charAt(i) == '"')
+							{
+								i = addLiteral(text, i, result);
+							}
+						}
+					}
+				}
+			}
+			start = indexOf(text, ROOT_PANEL, Math.max(i, start + 1));
+		}
+	}
+
+	/**
+	 * Adds the literal starting at {@code quote} unless it contains escapes.
+	 *
+	 * @return offset after the literal
+	 */
+	private static int addLiteral(CharSequence text, int quote, Map<String, int[]> result)
+	{
+		int i = quote + 1;
+		while(i < text.length())
+		{
+			char c = text.charAt(i);
+			if(c == '"')
+			{
+				String id = text.subSequence(quote + 1, i).toString();
+				int[] offsets = result.get(id);
+				if(offsets == null)
+				{
+					offsets = new int[]{quote};
+				}
+				else
+				{
+					offsets = Arrays.copyOf(offsets, offsets.length + 1);
+					offsets[offsets.length - 1] = quote;
+				}
+				result.put(id, offsets);
+				return i + 1;
+			}
+			if(c == '\\' || c == '\n' || c == '\r')
+			{
+				return i;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	private static int skipWhitespaces(CharSequence text, int i)
+	{
+		while(i < text.length() && Character.isWhitespace(text.charAt(i)))
+		{
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean startsWith(CharSequence text, int offset, String prefix)
+	{
+		if(offset + prefix.length() > text.length())
+		{
+			return false;
+		}
+		for(int i = 0; i < prefix.length(); i++)
+		{
+			if(text.charAt(offset + i) != prefix.charAt(i))
+			{
+				return false;
+			}
+		}
+		int end = offset + prefix.length();
+		return end == text.length() || !Character.isJavaIdentifierPart(text.charAt(end));
+	}
+
+	private static int indexOf(CharSequence text, String pattern, int from)
+	{
+		int last = text.length() - pattern.length();
+		for(int i = from; i <= last; i++)
+		{
+			if(text.charAt(i) == pattern.charAt(0) && startsWith(text, i, pattern))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static class GwtRootPanelIdIndexer implements DataIndexer<String, int[], FileContent>
+	{
+		@Override
+		@Nonnull
+		public Map<String, int[]> map(FileContent inputData)
+		{
+			Map<String, int[]> result = new HashMap<String, int[]>();
+			collectCallSites(inputData.getContentAsText(), result);
+			return result;
+		}
+	}
+
+	private static class OffsetsExternalizer implements DataExternalizer<int[]>
+	{
+		@Override
+		public void save(@Nonnull DataOutput out, int[] value) throws IOException
+		{
+			out.writeInt(value.length);
+			for(int offset : value)
+			{
+				out.writeInt(offset);
+			}
+		}
+
+		@Override
+		public int[] read(@Nonnull DataInput in) throws IOException
+		{
+			int[] value = new int[in.readInt()];
+			for(int i = 0; i < value.length; i++)
+			{
+				value[i] = in.readInt();
+			}
+			return value;
+		}
+	}
+}
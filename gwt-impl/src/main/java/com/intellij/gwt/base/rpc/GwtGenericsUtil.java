@@ -6,18 +6,21 @@ import com.intellij.java.language.psi.PsiMethod;
 import com.intellij.java.language.psi.PsiType;
 import com.intellij.java.language.psi.javadoc.PsiDocComment;
 import com.intellij.java.language.psi.javadoc.PsiDocTag;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
 import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiModificationTracker;
 import consulo.language.util.IncorrectOperationException;
+import consulo.util.dataholder.Key;
 import consulo.util.lang.CharArrayUtil;
 import consulo.util.lang.StringUtil;
 import org.jetbrains.annotations.NonNls;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.StringTokenizer;
+import java.util.*;
 
 /**
  * @author nik
@@ -26,6 +29,7 @@ public class GwtGenericsUtil
 {
 	@NonNls
 	public static final String TYPE_ARGS_TAG = "gwt.typeArgs";
+	private static final Key<CachedValue<TypeArgs>> TYPE_ARGS_KEY = Key.create("GWT_TYPE_ARGS");
 
 	private GwtGenericsUtil()
 	{
@@ -58,36 +62,144 @@ public class GwtGenericsUtil
 	@Nullable
 	public static String getReturnTypeParametersString(final PsiMethod method)
 	{
-		return getTypeParametersString(method, null);
+		return getTypeArgs(method).getReturnTypeParametersString();
 	}
 
 	@Nullable
 	public static String getTypeParametersString(final PsiMethod method, final @Nullable String parameterName)
+	{
+		TypeArgs typeArgs = getTypeArgs(method);
+		return parameterName != null ? typeArgs.getParameterTypeParametersString(parameterName) : typeArgs.getReturnTypeParametersString();
+	}
+
+	/**
+	 * @return parsed {@code @gwt.typeArgs} tags of the method, cached until the containing file is changed
+	 */
+	@Nonnull
+	public static TypeArgs getTypeArgs(@Nonnull final PsiMethod method)
+	{
+		if(!method.isPhysical())
+		{
+			return parseTypeArgs(method);
+		}
+
+		CachedValue<TypeArgs> value = method.getUserData(TYPE_ARGS_KEY);
+		if(value == null)
+		{
+			value = CachedValuesManager.getManager(method.getProject()).createCachedValue(new CachedValueProvider<TypeArgs>()
+			{
+				@Override
+				public Result<TypeArgs> compute()
+				{
+					PsiFile file = method.getContainingFile();
+					return Result.create(parseTypeArgs(method), file != null ? file : PsiModificationTracker.MODIFICATION_COUNT);
+				}
+			}, false);
+			method.putUserData(TYPE_ARGS_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	@Nonnull
+	private static TypeArgs parseTypeArgs(@Nonnull PsiMethod method)
 	{
 		PsiDocComment comment = method.getDocComment();
 		if(comment == null)
 		{
-			return null;
+			return TypeArgs.EMPTY;
 		}
 
 		PsiDocTag[] tags = comment.findTagsByName(TYPE_ARGS_TAG);
+		if(tags.length == 0)
+		{
+			return TypeArgs.EMPTY;
+		}
+
+		String returnString = null;
+		Map<String, String> parameterStrings = new HashMap<String, String>();
 		for(PsiDocTag tag : tags)
 		{
 			PsiElement[] elements = tag.getDataElements();
-			if(parameterName != null && elements.length >= 2 && parameterName.equals(elements[0].getText()))
+			if(elements.length >= 2)
 			{
-				return elements[1].getText();
+				String parameterName = elements[0].getText();
+				if(!parameterStrings.containsKey(parameterName))
+				{
+					parameterStrings.put(parameterName, elements[1].getText());
+				}
 			}
-			if(parameterName == null && elements.length >= 1)
+			if(returnString == null && elements.length >= 1)
 			{
 				String text = elements[0].getText().trim();
 				if(StringUtil.startsWithChar(text, '<') && StringUtil.endsWithChar(text, '>'))
 				{
-					return text;
+					returnString = text;
 				}
 			}
 		}
-		return null;
+
+		Map<String, List<PsiType>> parameterTypes = new HashMap<String, List<PsiType>>();
+		for(Map.Entry<String, String> entry : parameterStrings.entrySet())
+		{
+			parameterTypes.put(entry.getKey(), getTypeParameters(method, entry.getValue()));
+		}
+		return new TypeArgs(returnString, getTypeParameters(method, returnString), parameterStrings, parameterTypes);
+	}
+
+	/**
+	 * Type arguments declared by {@code @gwt.typeArgs} javadoc tags of a RPC method (pre-1.5 GWT generics emulation).
+	 */
+	public static final class TypeArgs
+	{
+		private static final TypeArgs EMPTY = new TypeArgs(null, Collections.<PsiType>emptyList(), Collections.<String, String>emptyMap(),
+				Collections.<String, List<PsiType>>emptyMap());
+
+		private final String myReturnString;
+		private final List<PsiType> myReturnTypes;
+		private final Map<String, String> myParameterStrings;
+		private final Map<String, List<PsiType>> myParameterTypes;
+
+		private TypeArgs(@Nullable String returnString, @Nonnull List<PsiType> returnTypes, @Nonnull Map<String, String> parameterStrings,
+				@Nonnull Map<String, List<PsiType>> parameterTypes)
+		{
+			myReturnString = returnString;
+			myReturnTypes = returnTypes;
+			myParameterStrings = parameterStrings;
+			myParameterTypes = parameterTypes;
+		}
+
+		/**
+		 * @return {@code true} if the method has at least one {@code @gwt.typeArgs} tag, even a malformed one
+		 */
+		public boolean hasTags()
+		{
+			return this != EMPTY;
+		}
+
+		@Nullable
+		public String getReturnTypeParametersString()
+		{
+			return myReturnString;
+		}
+
+		@Nonnull
+		public List<PsiType> getReturnTypeParameters()
+		{
+			return myReturnTypes;
+		}
+
+		@Nullable
+		public String getParameterTypeParametersString(@Nonnull String parameterName)
+		{
+			return myParameterStrings.get(parameterName);
+		}
+
+		@Nonnull
+		public List<PsiType> getParameterTypeParameters(@Nonnull String parameterName)
+		{
+			List<PsiType> types = myParameterTypes.get(parameterName);
+			return types != null ? types : Collections.<PsiType>emptyList();
+		}
 	}
 
 	public static void removeTypeArgsJavadocTags(final PsiMethod method) throws IncorrectOperationException
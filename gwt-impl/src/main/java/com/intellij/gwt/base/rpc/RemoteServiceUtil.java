@@ -17,18 +17,29 @@
 package com.intellij.gwt.base.rpc;
 
 import com.intellij.gwt.sdk.GwtVersion;
+import com.intellij.java.indexing.search.searches.ClassInheritorsSearch;
 import com.intellij.java.language.psi.*;
 import com.intellij.java.language.psi.util.TypeConversionUtil;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiManager;
+import consulo.language.psi.PsiModificationTracker;
 import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.language.util.IncorrectOperationException;
 import consulo.logging.Logger;
+import consulo.module.content.ProjectRootManager;
 import consulo.project.Project;
+import consulo.util.dataholder.Key;
 import org.jetbrains.annotations.NonNls;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * @author nik
  */
@@ -36,17 +47,19 @@ public class RemoteServiceUtil
 {
 	private static final Logger LOG = Logger.getInstance(RemoteServiceUtil.class);
 	@NonNls
-	private static final String REMOTE_SERVICE_INTERFACE_NAME = "com.google.gwt.user.client.rpc.RemoteService";
+	public static final String REMOTE_SERVICE_INTERFACE_NAME = "com.google.gwt.user.client.rpc.RemoteService";
 	@NonNls
 	public static final String ASYNC_CALLBACK_INTERFACE_NAME = "com.google.gwt.user.client.rpc.AsyncCallback";
 	@NonNls
-	private static final String REMOTE_SERVICE_SERVLET_NAME = "com.google.gwt.user.server.rpc.RemoteServiceServlet";
+	public static final String REMOTE_SERVICE_SERVLET_NAME = "com.google.gwt.user.server.rpc.RemoteServiceServlet";
 	@NonNls
 	public static final String ASYNC_SUFFIX = "Async";
 	@NonNls
 	public static final String IMPL_SERVICE_SUFFIX = "Impl";
 	@NonNls
 	private static final String VOID_CLASS_NAME = "java.lang.Void";
+	private static final Key<CachedValue<PsiClass>> SYNCHRONOUS_INTERFACE_KEY = Key.create("GWT_SYNCHRONOUS_INTERFACE");
+	private static final Key<CachedValue<Set<String>>> ASYNC_METHOD_NAMES_KEY = Key.create("GWT_ASYNC_METHOD_NAMES");
 
 	private RemoteServiceUtil()
 	{
@@ -204,6 +217,33 @@ public class RemoteServiceUtil
 			return null;
 		}
 
+		if(!asynchInterface.isPhysical())
+		{
+			return doFindSynchronousInterface(asynchInterface, name);
+		}
+
+		CachedValue<PsiClass> value = asynchInterface.getUserData(SYNCHRONOUS_INTERFACE_KEY);
+		if(value == null)
+		{
+			final Project project = asynchInterface.getProject();
+			value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<PsiClass>()
+			{
+				@Override
+				public Result<PsiClass> compute()
+				{
+					String qualifiedName = asynchInterface.getQualifiedName();
+					PsiClass sync = qualifiedName != null ? doFindSynchronousInterface(asynchInterface, qualifiedName) : null;
+					return Result.create(sync, PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT, ProjectRootManager.getInstance(project));
+				}
+			}, false);
+			asynchInterface.putUserData(SYNCHRONOUS_INTERFACE_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	@Nullable
+	private static PsiClass doFindSynchronousInterface(final PsiClass asynchInterface, final String name)
+	{
 		final PsiManager psiManager = asynchInterface.getManager();
 		final GlobalSearchScope scope = asynchInterface.getResolveScope();
 		final PsiClass remoteService = JavaPsiFacade.getInstance(psiManager.getProject()).findClass(REMOTE_SERVICE_INTERFACE_NAME, scope);
@@ -222,6 +262,51 @@ public class RemoteServiceUtil
 		return null;
 	}
 
+	/**
+	 * Names of methods declared in asynchronous interfaces of all RPC services of the project. A method call whose name is not in
+	 * the set can't be a call of an asynchronous service method, so callers may skip resolving it.
+	 */
+	@Nonnull
+	public static Set<String> getAsyncMethodNames(@Nonnull final Project project)
+	{
+		CachedValue<Set<String>> value = project.getUserData(ASYNC_METHOD_NAMES_KEY);
+		if(value == null)
+		{
+			value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<Set<String>>()
+			{
+				@Override
+				public Result<Set<String>> compute()
+				{
+					Set<String> names = new HashSet<String>();
+					GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+					PsiClass remoteService = JavaPsiFacade.getInstance(project).findClass(REMOTE_SERVICE_INTERFACE_NAME, scope);
+					if(remoteService != null)
+					{
+						for(PsiClass service : ClassInheritorsSearch.search(remoteService, scope, true).findAll())
+						{
+							if(!service.isInterface() || service.getQualifiedName() == null)
+							{
+								continue;
+							}
+							PsiClass async = findAsynchronousInterface(service);
+							if(async != null)
+							{
+								for(PsiMethod method : async.getMethods())
+								{
+									names.add(method.getName());
+								}
+							}
+						}
+					}
+					return Result.create(Collections.unmodifiableSet(names), PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+							ProjectRootManager.getInstance(project));
+				}
+			}, false);
+			project.putUserData(ASYNC_METHOD_NAMES_KEY, value);
+		}
+		return value.getValue();
+	}
+
 	public static
 	@Nullable
 	PsiClass findAsynchronousInterface(PsiClass aClass)
@@ -0,0 +1,177 @@
+package com.intellij.gwt.base.telemetry;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free statistics of a single instrumented operation: number of calls, latency histogram and, for cached computations, hit ratio.
+ * Use {@link GwtTelemetry#getMetric} to obtain an instance.
+ * <pre>
+ * long start = METRIC.start();
+ * try { ... } finally { METRIC.stop(start); }
+ * </pre>
+ */
+public final class GwtMetric
+{
+	/**
+	 * Exclusive upper bounds of histogram buckets in microseconds, the last bucket is unbounded
+	 */
+	private static final long[] BUCKET_BOUNDS_MICROS = {10, 100, 1000, 10000, 100000, 1000000};
+
+	private final String myName;
+	private final LongAdder myCount = new LongAdder();
+	private final LongAdder myTotalNanos = new LongAdder();
+	private final AtomicLong myMaxNanos = new AtomicLong();
+	private final LongAdder[] myBuckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+	private final LongAdder myCacheAccesses = new LongAdder();
+	private final LongAdder myCacheMisses = new LongAdder();
+
+	GwtMetric(@Nonnull String name)
+	{
+		myName = name;
+		for(int i = 0; i < myBuckets.length; i++)
+		{
+			myBuckets[i] = new LongAdder();
+		}
+	}
+
+	@Nonnull
+	public String getName()
+	{
+		return myName;
+	}
+
+	/**
+	 * @return start timestamp to pass to {@link #stop}, or {@code 0} if telemetry is disabled
+	 */
+	public long start()
+	{
+		return GwtTelemetry.isEnabled() ? System.nanoTime() : 0;
+	}
+
+	public void stop(long startNanos)
+	{
+		if(startNanos != 0)
+		{
+			record(System.nanoTime() - startNanos);
+		}
+	}
+
+	public void record(long durationNanos)
+	{
+		myCount.increment();
+		myTotalNanos.add(durationNanos);
+		myMaxNanos.accumulateAndGet(durationNanos, Math::max);
+		myBuckets[getBucket(durationNanos / 1000)].increment();
+	}
+
+	/**
+	 * Registers access to a cached value, call {@link #cacheMiss()} in addition when the value has to be computed
+	 */
+	public void cacheAccess()
+	{
+		if(GwtTelemetry.isEnabled())
+		{
+			myCacheAccesses.increment();
+		}
+	}
+
+	public void cacheMiss()
+	{
+		if(GwtTelemetry.isEnabled())
+		{
+			myCacheMisses.increment();
+		}
+	}
+
+	public long getCount()
+	{
+		return myCount.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return myTotalNanos.sum();
+	}
+
+	public long getMaxNanos()
+	{
+		return myMaxNanos.get();
+	}
+
+	public long getMeanNanos()
+	{
+		long count = getCount();
+		return count > 0 ? getTotalNanos() / count : 0;
+	}
+
+	public long getCacheAccesses()
+	{
+		return myCacheAccesses.sum();
+	}
+
+	public long getCacheMisses()
+	{
+		return myCacheMisses.sum();
+	}
+
+	/**
+	 * @return share of cache accesses which didn't require computation, or {@code -1} if the metric isn't used for a cache
+	 */
+	public double getCacheHitRatio()
+	{
+		long accesses = getCacheAccesses();
+		if(accesses == 0)
+		{
+			return -1;
+		}
+		return Math.max(0, accesses - getCacheMisses()) / (double) accesses;
+	}
+
+	/**
+	 * @return number of calls in each bucket of {@link #getBucketBoundsMicros()}
+	 */
+	@Nonnull
+	public long[] getHistogram()
+	{
+		long[] histogram = new long[myBuckets.length];
+		for(int i = 0; i < myBuckets.length; i++)
+		{
+			histogram[i] = myBuckets[i].sum();
+		}
+		return histogram;
+	}
+
+	@Nonnull
+	public static long[] getBucketBoundsMicros()
+	{
+		return BUCKET_BOUNDS_MICROS.clone();
+	}
+
+	void reset()
+	{
+		myCount.reset();
+		myTotalNanos.reset();
+		myMaxNanos.set(0);
+		for(LongAdder bucket : myBuckets)
+		{
+			bucket.reset();
+		}
+		myCacheAccesses.reset();
+		myCacheMisses.reset();
+	}
+
+	private static int getBucket(long micros)
+	{
+		for(int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++)
+		{
+			if(micros < BUCKET_BOUNDS_MICROS[i])
+			{
+				return i;
+			}
+		}
+		return BUCKET_BOUNDS_MICROS.length;
+	}
+}
@@ -0,0 +1,100 @@
+package com.intellij.gwt.base.telemetry;
+
+import com.intellij.gwt.base.util.GwtJsonWriter;
+import org.jetbrains.annotations.NonNls;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Application wide registry of {@link GwtMetric}s collected by GWT support: module lookups, compiler phases, inspections, JSNI member maps and
+ * index queries. Metric names are dot separated, the first segment is the subsystem. Can be disabled with
+ * {@code -Dgwt.telemetry.disabled=true}.
+ */
+public final class GwtTelemetry
+{
+	@NonNls
+	public static final String DISABLED_PROPERTY = "gwt.telemetry.disabled";
+	private static final boolean ourEnabled = !Boolean.getBoolean(DISABLED_PROPERTY);
+	private static final ConcurrentMap<String, GwtMetric> ourMetrics = new ConcurrentHashMap<String, GwtMetric>();
+
+	private GwtTelemetry()
+	{
+	}
+
+	public static boolean isEnabled()
+	{
+		return ourEnabled;
+	}
+
+	@Nonnull
+	public static GwtMetric getMetric(@Nonnull @NonNls String name)
+	{
+		GwtMetric metric = ourMetrics.get(name);
+		return metric != null ? metric : ourMetrics.computeIfAbsent(name, GwtMetric::new);
+	}
+
+	/**
+	 * @return metrics sorted by name
+	 */
+	@Nonnull
+	public static List<GwtMetric> getMetrics()
+	{
+		List<GwtMetric> metrics = new ArrayList<GwtMetric>(ourMetrics.values());
+		metrics.sort(Comparator.comparing(GwtMetric::getName));
+		return metrics;
+	}
+
+	public static void reset()
+	{
+		for(GwtMetric metric : ourMetrics.values())
+		{
+			metric.reset();
+		}
+	}
+
+	@Nonnull
+	@NonNls
+	public static String toJson()
+	{
+		StringWriter out = new StringWriter();
+		try
+		{
+			GwtJsonWriter json = new GwtJsonWriter(out);
+			json.beginObject();
+			json.name("timestamp").value(System.currentTimeMillis());
+			json.name("bucketBoundsMicros").value(GwtMetric.getBucketBoundsMicros());
+			json.name("metrics").beginArray();
+			for(GwtMetric metric : getMetrics())
+			{
+				json.beginObject();
+				json.name("name").value(metric.getName());
+				json.name("count").value(metric.getCount());
+				json.name("totalNanos").value(metric.getTotalNanos());
+				json.name("meanNanos").value(metric.getMeanNanos());
+				json.name("maxNanos").value(metric.getMaxNanos());
+				json.name("histogram").value(metric.getHistogram());
+				if(metric.getCacheAccesses() > 0)
+				{
+					json.name("cacheAccesses").value(metric.getCacheAccesses());
+					json.name("cacheMisses").value(metric.getCacheMisses());
+					json.name("cacheHitRatio").value(metric.getCacheHitRatio());
+				}
+				json.endObject();
+			}
+			json.endArray();
+			json.endObject();
+		}
+		catch(IOException e)
+		{
+			throw new AssertionError(e);
+		}
+		return out.append('\n').toString();
+	}
+}
@@ -0,0 +1,49 @@
+package com.intellij.gwt.base.util;
+
+import jakarta.annotation.Nonnull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Content hashes used as keys of GWT caches. MD5 is enough there, the hashes only detect changed content.
+ */
+public final class GwtDigestUtil
+{
+	private GwtDigestUtil()
+	{
+	}
+
+	/**
+	 * @return lower case hex MD5 of the UTF-8 bytes of the text
+	 */
+	@Nonnull
+	public static String md5Hex(@Nonnull String text)
+	{
+		return md5Hex(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return lower case hex MD5 of the bytes
+	 */
+	@Nonnull
+	public static String md5Hex(@Nonnull byte[] bytes)
+	{
+		byte[] digest;
+		try
+		{
+			digest = MessageDigest.getInstance("MD5").digest(bytes);
+		}
+		catch(NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+		StringBuilder builder = new StringBuilder(digest.length * 2);
+		for(byte b : digest)
+		{
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return builder.toString();
+	}
+}
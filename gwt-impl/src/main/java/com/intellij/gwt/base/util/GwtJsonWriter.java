@@ -0,0 +1,169 @@
+package com.intellij.gwt.base.util;
+
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.BitSet;
+
+/**
+ * Minimal streaming JSON writer for reports and metric dumps. Commas between members are inserted automatically, names and string values
+ * are escaped; the output isn't indented.
+ */
+public class GwtJsonWriter
+{
+	private final Writer myWriter;
+	private final BitSet myNonEmpty = new BitSet();
+	private int myDepth;
+	private boolean myAfterName;
+
+	public GwtJsonWriter(@Nonnull Writer writer)
+	{
+		myWriter = writer;
+	}
+
+	@Nonnull
+	public GwtJsonWriter beginObject() throws IOException
+	{
+		return open('{');
+	}
+
+	@Nonnull
+	public GwtJsonWriter endObject() throws IOException
+	{
+		return close('}');
+	}
+
+	@Nonnull
+	public GwtJsonWriter beginArray() throws IOException
+	{
+		return open('[');
+	}
+
+	@Nonnull
+	public GwtJsonWriter endArray() throws IOException
+	{
+		return close(']');
+	}
+
+	@Nonnull
+	public GwtJsonWriter name(@Nonnull @NonNls String name) throws IOException
+	{
+		separate();
+		string(name);
+		myWriter.write(':');
+		myAfterName = true;
+		return this;
+	}
+
+	@Nonnull
+	public GwtJsonWriter value(@Nonnull String value) throws IOException
+	{
+		separate();
+		string(value);
+		return this;
+	}
+
+	@Nonnull
+	public GwtJsonWriter value(long value) throws IOException
+	{
+		separate();
+		myWriter.write(Long.toString(value));
+		return this;
+	}
+
+	@Nonnull
+	public GwtJsonWriter value(double value) throws IOException
+	{
+		separate();
+		myWriter.write(Double.isFinite(value) ? Double.toString(value) : "null");
+		return this;
+	}
+
+	@Nonnull
+	public GwtJsonWriter value(boolean value) throws IOException
+	{
+		separate();
+		myWriter.write(value ? "true" : "false");
+		return this;
+	}
+
+	@Nonnull
+	public GwtJsonWriter value(@Nonnull long[] values) throws IOException
+	{
+		beginArray();
+		for(long value : values)
+		{
+			value(value);
+		}
+		return endArray();
+	}
+
+	private GwtJsonWriter open(char c) throws IOException
+	{
+		separate();
+		myWriter.write(c);
+		myDepth++;
+		myNonEmpty.clear(myDepth);
+		return this;
+	}
+
+	private GwtJsonWriter close(char c) throws IOException
+	{
+		myDepth--;
+		myWriter.write(c);
+		return this;
+	}
+
+	private void separate() throws IOException
+	{
+		if(myAfterName)
+		{
+			myAfterName = false;
+			return;
+		}
+		if(myNonEmpty.get(myDepth))
+		{
+			myWriter.write(',');
+		}
+		myNonEmpty.set(myDepth);
+	}
+
+	private void string(String s) throws IOException
+	{
+		myWriter.write('"');
+		for(int i = 0; i < s.length(); i++)
+		{
+			char c = s.charAt(i);
+			switch(c)
+			{
+				case '"':
+					myWriter.write("\\\"");
+					break;
+				case '\\':
+					myWriter.write("\\\\");
+					break;
+				case '\n':
+					myWriter.write("\\n");
+					break;
+				case '\r':
+					myWriter.write("\\r");
+					break;
+				case '\t':
+					myWriter.write("\\t");
+					break;
+				default:
+					if(c < 0x20)
+					{
+						myWriter.write(String.format("\\u%04x", (int) c));
+					}
+					else
+					{
+						myWriter.write(c);
+					}
+			}
+		}
+		myWriter.write('"');
+	}
+}
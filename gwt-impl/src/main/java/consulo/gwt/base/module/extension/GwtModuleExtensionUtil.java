@@ -1,14 +1,22 @@
 package consulo.gwt.base.module.extension;
 
 import com.intellij.gwt.base.sdk.GwtVersionImpl;
+import com.intellij.gwt.sdk.GwtReleaseVersion;
 import com.intellij.gwt.sdk.GwtVersion;
 import consulo.annotation.access.RequiredReadAction;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
+import consulo.component.util.SimpleModificationTracker;
+import consulo.gwt.base.module.extension.path.GwtSdkUtil;
 import consulo.gwt.module.extension.GoogleGwtModuleExtension;
 import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
 import consulo.language.psi.PsiElement;
 import consulo.language.util.ModuleUtilCore;
 import consulo.module.Module;
+import consulo.module.content.ProjectRootManager;
 import consulo.project.Project;
+import consulo.util.dataholder.Key;
 import consulo.virtualFileSystem.VirtualFile;
 
 import jakarta.annotation.Nonnull;
@@ -20,6 +28,9 @@ import jakarta.annotation.Nullable;
  */
 public class GwtModuleExtensionUtil
 {
+	private static final Key<CachedValue<GwtLibraryPathProvider.Info>> LIBRARY_INFO_KEY = Key.create("GWT_LIBRARY_INFO");
+	private static final SimpleModificationTracker ourLibraryInfoTracker = new SimpleModificationTracker();
+
 	@Nullable
 	public static GoogleGwtModuleExtension<?> findModuleExtension(@Nonnull Project project, @Nullable VirtualFile file)
 	{
@@ -73,8 +84,66 @@ public class GwtModuleExtensionUtil
 		{
 			return GwtVersionImpl.VERSION_1_6_OR_LATER;
 		}
-		GwtLibraryPathProvider.Info info = GwtLibraryPathProvider.EP_NAME.computeSafeIfAny(it -> it.resolveInfo(extension));
+		GwtLibraryPathProvider.Info info = getLibraryInfo(extension);
 		assert info != null;
 		return info.getVersion();
 	}
+
+	/**
+	 * @return release version of the GWT library used by the extension, e.g. to check {@link GwtReleaseVersion#isSourceLevelSupported()};
+	 * {@code null} if its jars don't declare a version
+	 */
+	@Nullable
+	public static GwtReleaseVersion getReleaseVersion(@Nullable GoogleGwtModuleExtension<?> extension)
+	{
+		GwtLibraryPathProvider.Info info = extension != null ? getLibraryInfo(extension) : null;
+		return info != null ? GwtSdkUtil.getReleaseVersion(info) : null;
+	}
+
+	/**
+	 * Returns library info resolved by {@link GwtLibraryPathProvider}s. The result is cached per module until roots change or
+	 * {@link #dropLibraryInfoCache()} is called.
+	 */
+	@Nullable
+	public static GwtLibraryPathProvider.Info getLibraryInfo(@Nonnull final GoogleGwtModuleExtension<?> extension)
+	{
+		final Module module = extension.getModule();
+		if(module.getExtension(GoogleGwtModuleExtension.class) != extension)
+		{
+			// modifiable extension from settings editor
+			return resolveLibraryInfo(extension);
+		}
+
+		CachedValue<GwtLibraryPathProvider.Info> value = module.getUserData(LIBRARY_INFO_KEY);
+		if(value == null)
+		{
+			final Project project = module.getProject();
+			value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<GwtLibraryPathProvider.Info>()
+			{
+				@Override
+				public Result<GwtLibraryPathProvider.Info> compute()
+				{
+					GoogleGwtModuleExtension<?> currentExtension = module.getExtension(GoogleGwtModuleExtension.class);
+					GwtLibraryPathProvider.Info info = currentExtension != null ? resolveLibraryInfo(currentExtension) : null;
+					return Result.create(info, ProjectRootManager.getInstance(project), ourLibraryInfoTracker);
+				}
+			}, false);
+			module.putUserData(LIBRARY_INFO_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	/**
+	 * Invalidates cached library info of all modules, should be called when a build tool import changes GWT dependencies.
+	 */
+	public static void dropLibraryInfoCache()
+	{
+		ourLibraryInfoTracker.incModificationCount();
+	}
+
+	@Nullable
+	private static GwtLibraryPathProvider.Info resolveLibraryInfo(@Nonnull GoogleGwtModuleExtension<?> extension)
+	{
+		return GwtLibraryPathProvider.EP_NAME.computeSafeIfAny(it -> it.resolveInfo(extension));
+	}
 }
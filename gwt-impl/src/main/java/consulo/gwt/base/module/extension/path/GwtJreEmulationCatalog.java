@@ -0,0 +1,178 @@
+package consulo.gwt.base.module.extension.path;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import com.intellij.java.language.impl.JavaFileType;
+import consulo.logging.Logger;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Names of the classes from JRE emulation library of a gwt-user jar. The catalog is built once per jar (keyed by jar path, size and
+ * timestamp), stored in the GWT caches directory and kept in memory as a sorted string table with a Bloom filter in front of it, so
+ * checking a class name doesn't touch the archive.
+ */
+public class GwtJreEmulationCatalog
+{
+	private static final Logger LOG = Logger.getInstance(GwtJreEmulationCatalog.class);
+	private static final int FORMAT_VERSION = 1;
+	private static final int BLOOM_BITS_PER_ELEMENT = 10;
+	private static final int BLOOM_HASH_COUNT = 4;
+	@NonNls
+	private static final String CATALOGS_DIR_NAME = "jre-emulation";
+	private static final Map<String, GwtJreEmulationCatalog> ourCatalogs = new ConcurrentHashMap<String, GwtJreEmulationCatalog>();
+
+	private final String myJarPath;
+	private final long myJarLength;
+	private final long myJarTimestamp;
+	private final String[] myClassNames;
+	private final long[] myBloomBits;
+
+	private GwtJreEmulationCatalog(String jarPath, long jarLength, long jarTimestamp, String[] sortedClassNames)
+	{
+		myJarPath = jarPath;
+		myJarLength = jarLength;
+		myJarTimestamp = jarTimestamp;
+		myClassNames = sortedClassNames;
+		myBloomBits = new long[Math.max(1, (sortedClassNames.length * BLOOM_BITS_PER_ELEMENT + 63) / 64)];
+		for(String className : sortedClassNames)
+		{
+			int h1 = className.hashCode();
+			int h2 = secondHash(className);
+			for(int i = 0; i < BLOOM_HASH_COUNT; i++)
+			{
+				int bit = bloomBit(h1, h2, i);
+				myBloomBits[bit >>> 6] |= 1L << bit;
+			}
+		}
+	}
+
+	/**
+	 * @return catalog for the given gwt-user jar or {@code null} if the jar doesn't exist or can't be read
+	 */
+	@Nullable
+	public static GwtJreEmulationCatalog getCatalog(@Nonnull String userJarPath)
+	{
+		File jarFile = new File(userJarPath);
+		long timestamp = jarFile.lastModified();
+		if(timestamp == 0)
+		{
+			return null;
+		}
+		long length = jarFile.length();
+
+		GwtJreEmulationCatalog catalog = ourCatalogs.get(userJarPath);
+		if(catalog != null && catalog.myJarLength == length && catalog.myJarTimestamp == timestamp)
+		{
+			return catalog;
+		}
+
+		GwtCacheFile cacheFile = GwtCacheFile.forPath(CATALOGS_DIR_NAME, userJarPath, FORMAT_VERSION);
+		catalog = load(cacheFile, userJarPath, length, timestamp);
+		if(catalog == null)
+		{
+			catalog = build(jarFile, userJarPath, length, timestamp);
+			if(catalog == null)
+			{
+				return null;
+			}
+			catalog.save(cacheFile);
+		}
+		ourCatalogs.put(userJarPath, catalog);
+		return catalog;
+	}
+
+	public boolean contains(@Nonnull String className)
+	{
+		int h1 = className.hashCode();
+		int h2 = secondHash(className);
+		for(int i = 0; i < BLOOM_HASH_COUNT; i++)
+		{
+			int bit = bloomBit(h1, h2, i);
+			if((myBloomBits[bit >>> 6] & (1L << bit)) == 0)
+			{
+				return false;
+			}
+		}
+		return Arrays.binarySearch(myClassNames, className) >= 0;
+	}
+
+	private int bloomBit(int h1, int h2, int i)
+	{
+		return ((h1 + i * h2) & Integer.MAX_VALUE) % (myBloomBits.length * 64);
+	}
+
+	private static int secondHash(String s)
+	{
+		int hash = 0x811C9DC5;
+		for(int i = 0; i < s.length(); i++)
+		{
+			hash = (hash ^ s.charAt(i)) * 0x01000193;
+		}
+		return hash | 1;
+	}
+
+	@Nullable
+	private static GwtJreEmulationCatalog build(File jarFile, String jarPath, long length, long timestamp)
+	{
+		String emulRoot = GwtSdkUtil.EMUL_ROOT;
+		String suffix = JavaFileType.DOT_DEFAULT_EXTENSION;
+		Set<String> classNames = new TreeSet<String>();
+		try (ZipFile zipFile = new ZipFile(jarFile))
+		{
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while(entries.hasMoreElements())
+			{
+				String name = entries.nextElement().getName();
+				if(name.startsWith(emulRoot) && name.endsWith(suffix))
+				{
+					classNames.add(name.substring(emulRoot.length(), name.length() - suffix.length()).replace('/', '.'));
+				}
+			}
+		}
+		catch(IOException e)
+		{
+			LOG.info("Cannot read JRE emulation classes from " + jarPath, e);
+			return null;
+		}
+		return new GwtJreEmulationCatalog(jarPath, length, timestamp, classNames.toArray(new String[classNames.size()]));
+	}
+
+	@Nullable
+	private static GwtJreEmulationCatalog load(GwtCacheFile cacheFile, String jarPath, long length, long timestamp)
+	{
+		return cacheFile.read(jarPath, input -> {
+			if(input.readLong() != length || input.readLong() != timestamp)
+			{
+				return null;
+			}
+
+			String[] classNames = new String[input.readInt()];
+			for(int i = 0; i < classNames.length; i++)
+			{
+				classNames[i] = input.readUTF();
+			}
+			return new GwtJreEmulationCatalog(jarPath, length, timestamp, classNames);
+		});
+	}
+
+	private void save(GwtCacheFile cacheFile)
+	{
+		cacheFile.write(myJarPath, output -> {
+			output.writeLong(myJarLength);
+			output.writeLong(myJarTimestamp);
+			output.writeInt(myClassNames.length);
+			for(String className : myClassNames)
+			{
+				output.writeUTF(className);
+			}
+		});
+	}
+}
@@ -17,6 +17,7 @@
 package consulo.gwt.base.module.extension.path;
 
 import com.intellij.gwt.base.i18n.GwtI18nUtil;
+import com.intellij.gwt.sdk.GwtReleaseVersion;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.gwt.base.sdk.GwtVersionImpl;
 import com.intellij.java.impl.openapi.roots.libraries.LibrariesHelper;
@@ -25,6 +26,7 @@ import com.intellij.java.language.impl.JavaClassFileType;
 import com.intellij.java.language.impl.JavaFileType;
 import consulo.application.util.SystemInfo;
 import consulo.content.bundle.Sdk;
+import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
 import consulo.util.io.FileUtil;
 import consulo.virtualFileSystem.LocalFileSystem;
 import consulo.virtualFileSystem.VirtualFile;
@@ -32,6 +34,7 @@ import consulo.virtualFileSystem.archive.ArchiveFileSystem;
 import consulo.virtualFileSystem.archive.ArchiveVfsUtil;
 import org.jetbrains.annotations.NonNls;
 
+import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
 import java.io.Serializable;
@@ -44,6 +47,8 @@ public class GwtSdkUtil
 	@NonNls
 	private static final String GWT_USER_JAR = "gwt-user.jar";
 	@NonNls
+	private static final String GWT_DEV_JAR = "gwt-dev.jar";
+	@NonNls
 	private static final String GWT_DEV_WINDOWS_JAR = "gwt-dev-windows.jar";
 	@NonNls
 	private static final String GWT_DEV_LINUX_JAR = "gwt-dev-linux.jar";
@@ -52,7 +57,7 @@ public class GwtSdkUtil
 	@NonNls
 	public static final String GWT_CLASS_NAME = "com.google.gwt.core.client.GWT";
 	@NonNls
-	private static final String EMUL_ROOT = "com/google/gwt/emul/";
+	static final String EMUL_ROOT = "com/google/gwt/emul/";
 
 	private GwtSdkUtil()
 	{
@@ -65,7 +70,72 @@ public class GwtSdkUtil
 			return GwtVersionImpl.VERSION_1_6_OR_LATER;
 		}
 
-		VirtualFile devFile = LocalFileSystem.getInstance().findFileByPath(sdk.getHomePath() + "/gwt-dev.jar");
+		String homePath = sdk.getHomePath();
+		if(homePath != null)
+		{
+			// SDKs declaring a release version are 1.6 or later, only older ones are probed for known classes
+			String[] jarPaths = {homePath + File.separator + GWT_DEV_JAR, getDevJarPath(homePath), getUserJarPath(homePath)};
+			for(String jarPath : jarPaths)
+			{
+				GwtReleaseVersion releaseVersion = GwtSdkVersionCache.getReleaseVersion(jarPath);
+				if(releaseVersion != null && releaseVersion.isAtLeast(1, 6))
+				{
+					return GwtVersionImpl.VERSION_1_6_OR_LATER;
+				}
+			}
+		}
+		return probeVersion(sdk);
+	}
+
+	/**
+	 * @return release version declared by gwt-dev or gwt-user jar of the SDK ({@code About.properties} or manifest)
+	 */
+	@Nullable
+	public static GwtReleaseVersion getReleaseVersion(@Nullable Sdk sdk)
+	{
+		String homePath = sdk != null ? sdk.getHomePath() : null;
+		if(homePath == null)
+		{
+			return null;
+		}
+		return getReleaseVersion(homePath + File.separator + GWT_DEV_JAR, getDevJarPath(homePath), getUserJarPath(homePath));
+	}
+
+	/**
+	 * @return release version declared by gwt-dev or gwt-user jar of the resolved GWT library
+	 */
+	@Nullable
+	public static GwtReleaseVersion getReleaseVersion(@Nonnull GwtLibraryPathProvider.Info info)
+	{
+		return getReleaseVersion(info.getDevJarPath(), info.getUserJarPath());
+	}
+
+	@Nullable
+	private static GwtReleaseVersion getReleaseVersion(String... jarPaths)
+	{
+		for(String jarPath : jarPaths)
+		{
+			GwtReleaseVersion releaseVersion = getJarReleaseVersion(jarPath);
+			if(releaseVersion != null)
+			{
+				return releaseVersion;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return release version declared by the given gwt-dev or gwt-user jar
+	 */
+	@Nullable
+	public static GwtReleaseVersion getJarReleaseVersion(@Nullable String jarPath)
+	{
+		return jarPath != null ? GwtSdkVersionCache.getReleaseVersion(jarPath) : null;
+	}
+
+	private static GwtVersionImpl probeVersion(@Nonnull Sdk sdk)
+	{
+		VirtualFile devFile = LocalFileSystem.getInstance().findFileByPath(sdk.getHomePath() + "/" + GWT_DEV_JAR);
 		if(devFile != null)
 		{
 			String classPath = GwtVersionImpl.GWT_16_COMPILER_MAIN_CLASS.replace(".", "/") + "." + JavaClassFileType.INSTANCE.getDefaultExtension();
@@ -0,0 +1,158 @@
+package consulo.gwt.base.module.extension.path;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import com.intellij.gwt.sdk.GwtReleaseVersion;
+import consulo.logging.Logger;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * Release versions declared by GWT SDK jars. Entries are keyed by the jar path and fingerprinted by its size and timestamp; they are kept in
+ * memory and in the GWT caches directory, so jars of configured SDKs are opened only when they change.
+ */
+class GwtSdkVersionCache
+{
+	private static final Logger LOG = Logger.getInstance(GwtSdkVersionCache.class);
+	private static final int FORMAT_VERSION = 2;
+	@NonNls
+	private static final String CACHES_DIR_NAME = "sdk-versions";
+	@NonNls
+	private static final String ABOUT_PROPERTIES_PATH = "com/google/gwt/dev/About.properties";
+	@NonNls
+	private static final String[] ABOUT_VERSION_KEYS = {"gwt.version", "version"};
+
+	private static final Map<String, Entry> ourEntries = new ConcurrentHashMap<String, Entry>();
+
+	private static class Entry
+	{
+		private final long myLength;
+		private final long myTimestamp;
+		@Nullable
+		private final GwtReleaseVersion myReleaseVersion;
+
+		private Entry(long length, long timestamp, @Nullable GwtReleaseVersion releaseVersion)
+		{
+			myLength = length;
+			myTimestamp = timestamp;
+			myReleaseVersion = releaseVersion;
+		}
+
+		private boolean isUpToDate(File jarFile)
+		{
+			return myLength == jarFile.length() && myTimestamp == jarFile.lastModified();
+		}
+
+		private void write(DataOutputStream output) throws IOException
+		{
+			output.writeLong(myLength);
+			output.writeLong(myTimestamp);
+			output.writeUTF(myReleaseVersion != null ? myReleaseVersion.toString() : "");
+		}
+	}
+
+	private GwtSdkVersionCache()
+	{
+	}
+
+	/**
+	 * @return release version declared by the jar ({@code About.properties} or manifest), {@code null} if the jar doesn't exist or declares
+	 * nothing
+	 */
+	@Nullable
+	static GwtReleaseVersion getReleaseVersion(@Nonnull String jarPath)
+	{
+		File jarFile = new File(jarPath);
+		Entry entry = ourEntries.get(jarPath);
+		if(entry != null && entry.isUpToDate(jarFile))
+		{
+			return entry.myReleaseVersion;
+		}
+
+		if(!jarFile.isFile())
+		{
+			return null;
+		}
+
+		GwtCacheFile cacheFile = GwtCacheFile.forPath(CACHES_DIR_NAME, jarPath, FORMAT_VERSION);
+		entry = cacheFile.read(jarPath, GwtSdkVersionCache::read);
+		if(entry == null || !entry.isUpToDate(jarFile))
+		{
+			entry = new Entry(jarFile.length(), jarFile.lastModified(), readReleaseVersion(jarFile));
+			cacheFile.write(jarPath, entry::write);
+		}
+		ourEntries.put(jarPath, entry);
+		return entry.myReleaseVersion;
+	}
+
+	/**
+	 * Reads the version from {@code About.properties} of gwt-dev or from the jar manifest.
+	 */
+	@Nullable
+	private static GwtReleaseVersion readReleaseVersion(File jarFile)
+	{
+		if(!jarFile.isFile())
+		{
+			return null;
+		}
+
+		try (JarFile jar = new JarFile(jarFile, false))
+		{
+			ZipEntry aboutEntry = jar.getEntry(ABOUT_PROPERTIES_PATH);
+			if(aboutEntry != null)
+			{
+				Properties properties = new Properties();
+				try (InputStream stream = jar.getInputStream(aboutEntry))
+				{
+					properties.load(stream);
+				}
+				for(String key : ABOUT_VERSION_KEYS)
+				{
+					GwtReleaseVersion version = GwtReleaseVersion.parse(properties.getProperty(key));
+					if(version != null)
+					{
+						return version;
+					}
+				}
+			}
+
+			Manifest manifest = jar.getManifest();
+			if(manifest != null)
+			{
+				Attributes attributes = manifest.getMainAttributes();
+				GwtReleaseVersion version = GwtReleaseVersion.parse(attributes.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
+				if(version == null)
+				{
+					version = GwtReleaseVersion.parse(attributes.getValue(Attributes.Name.SPECIFICATION_VERSION));
+				}
+				return version;
+			}
+		}
+		catch(IOException e)
+		{
+			LOG.debug(e);
+		}
+		return null;
+	}
+
+	private static Entry read(DataInputStream input) throws IOException
+	{
+		long length = input.readLong();
+		long timestamp = input.readLong();
+		String releaseVersion = input.readUTF();
+		return new Entry(length, timestamp, releaseVersion.isEmpty() ? null : GwtReleaseVersion.parse(releaseVersion));
+	}
+}
@@ -20,7 +20,9 @@ module com.intellij.gwt.base
 	exports com.intellij.gwt.base.module.index;
 	exports com.intellij.gwt.base.rpc;
 	exports com.intellij.gwt.base.sdk;
+	exports com.intellij.gwt.base.telemetry;
 	exports com.intellij.gwt.base.templates;
+	exports com.intellij.gwt.base.util;
 	exports consulo.google.gwt.base.icon;
 	exports consulo.gwt.base.module.extension;
 	exports consulo.gwt.base.module.extension.impl;
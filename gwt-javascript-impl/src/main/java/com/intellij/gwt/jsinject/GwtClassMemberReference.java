@@ -16,6 +16,8 @@
 
 package com.intellij.gwt.jsinject;
 
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.impl.codeInsight.completion.util.MethodParenthesesHandler;
 import com.intellij.java.language.psi.*;
@@ -35,6 +37,8 @@ import consulo.language.psi.PsiReferenceBase;
 import consulo.language.psi.util.PsiTreeUtil;
 import consulo.language.util.IncorrectOperationException;
 import consulo.logging.Logger;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.Project;
 import consulo.util.collection.ArrayUtil;
 import consulo.util.dataholder.Key;
 import jakarta.annotation.Nonnull;
@@ -52,8 +56,9 @@ import java.util.Map;
 public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpressionImpl> {
     private static final Logger LOG = Logger.getInstance("#com.intellij.gwt.jsinject.GwtClassMemberReference");
     private static final Key<CachedValue<Map<String, PsiMember>>> CACHED_MEMBER_MAP_KEY = Key.create("cached_member_signatures");
+    private static final GwtMetric MEMBER_MAP_METRIC = GwtTelemetry.getMetric("jsni.memberMap");
     @NonNls
-    private static final String NEW_EXPRESSION = "new";
+    public static final String NEW_EXPRESSION = "new";
     @NonNls
     private static Map<PsiType, String> ourPrimitiveTypes = new HashMap<PsiType, String>();
 
@@ -69,22 +74,44 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
     }
 
     private final PsiReference myClassReference;
+    private volatile CachedValue<PsiElement> myResolveResult;
 
     public GwtClassMemberReference(final JSGwtReferenceExpressionImpl element, final @Nullable PsiReference classReference, final TextRange range) {
         super(element, range);
         myClassReference = classReference;
     }
 
+    /**
+     * JSNI references contain fully qualified names, so the result depends only on the Java structure and is kept while the JSNI body is
+     * edited.
+     */
     @Override
     @Nullable
     public PsiElement resolve() {
+        CachedValue<PsiElement> value = myResolveResult;
+        if (value == null) {
+            final Project project = myElement.getProject();
+            value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<PsiElement>() {
+                @Override
+                public Result<PsiElement> compute() {
+                    return Result.create(doResolve(), PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT, ProjectRootManager.getInstance(project));
+                }
+            }, false);
+            myResolveResult = value;
+        }
+
+        PsiElement element = value.getValue();
+        return element == null || element.isValid() ? element : doResolve();
+    }
+
+    @Nullable
+    private PsiElement doResolve() {
         PsiClass psiClass = resolveQualifier();
         if (psiClass == null) {
             return null;
         }
 
-        Map<String, PsiMember> map = getMembersMap(psiClass);
-        return map != null ? map.get(getValue()) : null;
+        return getMembersMap(psiClass).get(getValue());
     }
 
     @Nullable
@@ -98,15 +125,29 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
 
     }
 
-    @Nullable
-    private Map<String, PsiMember> getMembersMap(final @Nonnull PsiClass aClass) {
+    /**
+     * Returns JSNI signature to member map of the class. The map is stored in the class user data so it is shared by all JSNI references
+     * to the class and is rebuilt only after Java structure changes (including changes of the supertypes) or roots changes.
+     */
+    @Nonnull
+    static Map<String, PsiMember> getMembersMap(final @Nonnull PsiClass aClass) {
+        MEMBER_MAP_METRIC.cacheAccess();
         CachedValue<Map<String, PsiMember>> value = aClass.getUserData(CACHED_MEMBER_MAP_KEY);
         if (value == null) {
-            value = CachedValuesManager.getManager(getElement().getProject()).createCachedValue(new CachedValueProvider<Map<String, PsiMember>>() {
+            final Project project = aClass.getProject();
+            value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<Map<String, PsiMember>>() {
                 @Override
                 public Result<Map<String, PsiMember>> compute() {
-                    final Map<String, PsiMember> map = buildMembersMap(aClass);
-                    return new Result<Map<String, PsiMember>>(map, PsiModificationTracker.MODIFICATION_COUNT);
+                    MEMBER_MAP_METRIC.cacheMiss();
+                    long start = MEMBER_MAP_METRIC.start();
+                    final Map<String, PsiMember> members;
+                    try {
+                        members = buildMembersMap(aClass);
+                    }
+                    finally {
+                        MEMBER_MAP_METRIC.stop(start);
+                    }
+                    return Result.create(members, PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT, ProjectRootManager.getInstance(project));
                 }
             }, false);
             aClass.putUserData(CACHED_MEMBER_MAP_KEY, value);
@@ -116,13 +157,15 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
 
     private static Map<String, PsiMember> buildMembersMap(final PsiClass aClass) {
         @NonNls HashMap<String, PsiMember> map = new HashMap<String, PsiMember>();
+        StringBuilder signature = new StringBuilder();
 
         for (PsiMethod psiMethod : aClass.getAllMethods()) {
             if (psiMethod.isConstructor()) {
                 continue;
             }
 
-            StringBuilder signature = new StringBuilder(psiMethod.getName());
+            signature.setLength(0);
+            signature.append(psiMethod.getName());
             signature.append('(');
             if (!appendParameterTypes(signature, psiMethod)) {
                 continue;
@@ -133,8 +176,10 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
 
         GwtVersion gwtVersion = GwtModuleExtensionUtil.getVersion(aClass);
         if (gwtVersion.isNewExpressionInJavaScriptSupported()) {
-            for (PsiMethod constructor : aClass.getConstructors()) {
-                StringBuilder signature = new StringBuilder(NEW_EXPRESSION);
+            PsiMethod[] constructors = aClass.getConstructors();
+            for (PsiMethod constructor : constructors) {
+                signature.setLength(0);
+                signature.append(NEW_EXPRESSION);
                 signature.append('(');
                 if (!appendEnclosingClassType(signature, constructor.getContainingClass())) {
                     continue;
@@ -145,8 +190,9 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
                 signature.append(')');
                 map.put(signature.toString(), constructor);
             }
-            if (aClass.getConstructors().length == 0) {
-                StringBuilder signature = new StringBuilder(NEW_EXPRESSION);
+            if (constructors.length == 0) {
+                signature.setLength(0);
+                signature.append(NEW_EXPRESSION);
                 signature.append('(');
                 if (appendEnclosingClassType(signature, aClass)) {
                     signature.append(')');
@@ -247,10 +293,6 @@ public class GwtClassMemberReference extends PsiReferenceBase<JSGwtReferenceExpr
         }
 
         Map<String, PsiMember> map = getMembersMap(psiClass);
-        if (map == null) {
-            return ArrayUtil.EMPTY_OBJECT_ARRAY;
-        }
-
         List<LookupElementBuilder> lookupItems = new ArrayList<LookupElementBuilder>();
         for (Map.Entry<String, PsiMember> entry : map.entrySet()) {
             PsiMember member = entry.getValue();
@@ -0,0 +1,183 @@
+package com.intellij.gwt.jsinject;
+
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Map;
+
+/**
+ * Text level helpers for JSNI bodies (<code>/*-{ ... }-*&#47;</code> comments of native methods). They work on raw file or comment text and
+ * don't require PSI, so they can be used from indexers.
+ */
+public class GwtJsniUtil
+{
+	@NonNls
+	public static final String JSNI_START = "/*-{";
+	@NonNls
+	public static final String JSNI_END = "}-*/";
+	@NonNls
+	public static final String MEMBER_SEPARATOR = "::";
+
+	private GwtJsniUtil()
+	{
+	}
+
+	/**
+	 * Collects names of Java members referenced from JSNI bodies (<code>@pkg.Class::member(sig)</code>) of the given Java file text.
+	 * Constructor references are collected under the <code>new</code> name.
+	 */
+	public static void collectReferencedMemberNames(CharSequence fileText, Map<String, Void> result)
+	{
+		int start = indexOf(fileText, JSNI_START, 0);
+		while(start != -1)
+		{
+			int bodyStart = start + JSNI_START.length();
+			int bodyEnd = indexOf(fileText, JSNI_END, bodyStart);
+			if(bodyEnd == -1)
+			{
+				return;
+			}
+
+			collectMemberNames(fileText, bodyStart, bodyEnd, result);
+			start = indexOf(fileText, JSNI_START, bodyEnd + JSNI_END.length());
+		}
+	}
+
+	/**
+	 * Sets the value of every name in {@code names} which also occurs as a word in the Java file text outside JSNI bodies (in code, strings
+	 * or other comments) to {@code true}.
+	 */
+	public static void markNamesOutsideJsni(CharSequence fileText, Map<String, Boolean> names)
+	{
+		int i = 0;
+		int length = fileText.length();
+		while(i < length)
+		{
+			if(regionMatches(fileText, i, JSNI_START))
+			{
+				int bodyEnd = indexOf(fileText, JSNI_END, i + JSNI_START.length());
+				if(bodyEnd == -1)
+				{
+					return;
+				}
+				i = bodyEnd + JSNI_END.length();
+				continue;
+			}
+
+			if(!Character.isJavaIdentifierStart(fileText.charAt(i)))
+			{
+				i++;
+				continue;
+			}
+
+			int wordStart = i;
+			while(i < length && Character.isJavaIdentifierPart(fileText.charAt(i)))
+			{
+				i++;
+			}
+			String word = fileText.subSequence(wordStart, i).toString();
+			if(names.containsKey(word))
+			{
+				names.put(word, Boolean.TRUE);
+			}
+		}
+	}
+
+	/**
+	 * Returns offsets of all JSNI body comments in the given text.
+	 */
+	public static int[] findJsniCommentOffsets(CharSequence fileText)
+	{
+		int[] offsets = new int[4];
+		int count = 0;
+		int start = indexOf(fileText, JSNI_START, 0);
+		while(start != -1)
+		{
+			if(count == offsets.length)
+			{
+				int[] newOffsets = new int[count * 2];
+				System.arraycopy(offsets, 0, newOffsets, 0, count);
+				offsets = newOffsets;
+			}
+			offsets[count++] = start;
+
+			int bodyEnd = indexOf(fileText, JSNI_END, start + JSNI_START.length());
+			if(bodyEnd == -1)
+			{
+				break;
+			}
+			start = indexOf(fileText, JSNI_START, bodyEnd + JSNI_END.length());
+		}
+
+		int[] result = new int[count];
+		System.arraycopy(offsets, 0, result, 0, count);
+		return result;
+	}
+
+	private static void collectMemberNames(CharSequence text, int start, int end, Map<String, Void> result)
+	{
+		int i = start;
+		while(i < end)
+		{
+			if(text.charAt(i) != '@')
+			{
+				i++;
+				continue;
+			}
+
+			i++;
+			while(i < end && isClassNamePart(text.charAt(i)))
+			{
+				i++;
+			}
+			if(i + MEMBER_SEPARATOR.length() > end || text.charAt(i) != ':' || text.charAt(i + 1) != ':')
+			{
+				continue;
+			}
+
+			i += MEMBER_SEPARATOR.length();
+			int nameStart = i;
+			while(i < end && Character.isJavaIdentifierPart(text.charAt(i)))
+			{
+				i++;
+			}
+			if(i > nameStart)
+			{
+				result.put(text.subSequence(nameStart, i).toString(), null);
+			}
+		}
+	}
+
+	private static boolean isClassNamePart(char c)
+	{
+		return c == '.' || Character.isJavaIdentifierPart(c);
+	}
+
+	public static int indexOf(CharSequence text, String pattern, int from)
+	{
+		int last = text.length() - pattern.length();
+		for(int i = from; i <= last; i++)
+		{
+			if(regionMatches(text, i, pattern))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public static boolean regionMatches(CharSequence text, int offset, String pattern)
+	{
+		if(offset < 0 || offset + pattern.length() > text.length())
+		{
+			return false;
+		}
+		for(int j = 0; j < pattern.length(); j++)
+		{
+			if(text.charAt(offset + j) != pattern.charAt(j))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -28,14 +28,35 @@ import jakarta.annotation.Nonnull;
 
 public class JSGwtReferenceExpressionImpl extends JSReferenceExpressionImpl
 {
+	private volatile CachedReferences myCachedReferences;
+
 	public JSGwtReferenceExpressionImpl(final ASTNode node)
 	{
 		super(node);
 	}
 
+	/**
+	 * Injected JSNI fragments are merged into the existing PSI after the host comment is changed, so unchanged expressions survive the
+	 * reparse. References are kept until the expression text changes to avoid recreating and re-resolving them on each keystroke.
+	 */
 	@Override
 	@Nonnull
 	public PsiReference[] getReferences()
+	{
+		String text = getText();
+		CachedReferences cachedReferences = myCachedReferences;
+		if(cachedReferences != null && cachedReferences.myText.equals(text))
+		{
+			return cachedReferences.myReferences;
+		}
+
+		PsiReference[] references = createReferences(text);
+		myCachedReferences = new CachedReferences(text, references);
+		return references;
+	}
+
+	@Nonnull
+	private PsiReference[] createReferences(String text)
 	{
 		PsiElement at = findChildByType(JSTokenTypes.AT);
 		if(at == null)
@@ -68,7 +89,7 @@ public class JSGwtReferenceExpressionImpl extends JSReferenceExpressionImpl
 
 		JavaClassReferenceProvider referenceProvider = new JavaClassReferenceProvider();
 
-		PsiReference[] classReferences = referenceProvider.getReferencesByString(classNameRange.substring(getText()), this,
+		PsiReference[] classReferences = referenceProvider.getReferencesByString(classNameRange.substring(text), this,
 				classNameRange.getStartOffset());
 
 		PsiElement member = findChildByType(JSTokenTypes.GWT_FIELD_OR_METHOD);
@@ -87,4 +108,16 @@ public class JSGwtReferenceExpressionImpl extends JSReferenceExpressionImpl
 	{
 		return false;
 	}
+
+	private static class CachedReferences
+	{
+		private final String myText;
+		private final PsiReference[] myReferences;
+
+		private CachedReferences(String text, PsiReference[] references)
+		{
+			myText = text;
+			myReferences = references;
+		}
+	}
 }
\ No newline at end of file
@@ -18,8 +18,12 @@ package com.intellij.gwt.jsinject;
 
 import com.intellij.java.language.psi.JavaTokenType;
 import com.intellij.java.language.psi.PsiMethod;
+import com.intellij.java.language.psi.PsiModifier;
 import com.intellij.java.language.psi.PsiParameter;
 import consulo.annotation.component.ExtensionImpl;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
 import consulo.document.util.TextRange;
 import consulo.gwt.javascript.lang.GwtJavaScriptVersion;
 import consulo.language.inject.MultiHostInjector;
@@ -27,6 +31,8 @@ import consulo.language.inject.MultiHostRegistrar;
 import consulo.language.psi.PsiComment;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiLanguageInjectionHost;
+import consulo.language.psi.PsiModificationTracker;
+import consulo.util.dataholder.Key;
 import org.jetbrains.annotations.NonNls;
 
 import jakarta.annotation.Nonnull;
@@ -34,6 +40,8 @@ import jakarta.annotation.Nonnull;
 @ExtensionImpl
 public class JsInjector implements MultiHostInjector
 {
+	private static final Key<CachedValue<String>> JSNI_FUNCTION_PREFIX_KEY = Key.create("JSNI_FUNCTION_PREFIX");
+
 	@Nonnull
 	@Override
 	public Class<? extends PsiElement> getElementClass()
@@ -44,45 +52,80 @@ public class JsInjector implements MultiHostInjector
 	@Override
 	public void injectLanguages(@Nonnull MultiHostRegistrar registrar, @Nonnull PsiElement host)
 	{
-		if(((PsiComment) host).getTokenType() == JavaTokenType.C_STYLE_COMMENT)
+		PsiComment comment = (PsiComment) host;
+		if(comment.getTokenType() != JavaTokenType.C_STYLE_COMMENT)
 		{
-			PsiComment comment = (PsiComment) host;
-			String text = comment.getText();
+			return;
+		}
 
-			if(!text.startsWith("/*-{") || !text.endsWith("}-*/"))
-			{
-				return;
-			}
+		final PsiElement parent = host.getParent();
+		if(!(parent instanceof PsiMethod))
+		{
+			return;
+		}
 
-			final PsiElement parent = host.getParent();
-			if(parent != null && parent instanceof PsiMethod)
-			{
-				PsiMethod method = (PsiMethod) parent;
-				if(method.getModifierList().hasExplicitModifier("native"))
-				{
-					@NonNls StringBuilder prefix = new StringBuilder();
-					prefix.append("function ");
-					prefix.append(method.getName());
-					prefix.append(" ( ");
-					final PsiParameter[] parameters = method.getParameterList().getParameters();
-					for(int i = 0; i != parameters.length; ++i)
-					{
-						prefix.append(parameters[i].getName());
-						prefix.append(",");
-					}
+		PsiMethod method = (PsiMethod) parent;
+		if(!method.getModifierList().hasExplicitModifier(PsiModifier.NATIVE))
+		{
+			return;
+		}
 
-					prefix.append("$wnd");
-					prefix.append(",");
-					prefix.append("$doc");
+		CharSequence text = comment.getNode().getChars();
+		int length = text.length();
+		if(length < GwtJsniUtil.JSNI_START.length() + GwtJsniUtil.JSNI_END.length() || !GwtJsniUtil.regionMatches(text, 0,
+				GwtJsniUtil.JSNI_START) || !GwtJsniUtil.regionMatches(text, length - GwtJsniUtil.JSNI_END.length(), GwtJsniUtil.JSNI_END))
+		{
+			return;
+		}
 
-					prefix.append(") {");
+		String suffix = "}";
+		TextRange range = new TextRange(GwtJsniUtil.JSNI_START.length(), length - GwtJsniUtil.JSNI_END.length());
+		registrar.startInjecting(GwtJavaScriptVersion.getInstance()).addPlace(getFunctionPrefix(method), suffix, (PsiLanguageInjectionHost)
+				host, range).doneInjecting();
+	}
 
-					String suffix = "}";
-					TextRange range = new TextRange(4, text.length() - 4);
-					registrar.startInjecting(GwtJavaScriptVersion.getInstance()).addPlace(prefix.toString(), suffix,
-							(PsiLanguageInjectionHost) host, range).doneInjecting();
+	/**
+	 * Prefix depends only on the method name and the parameter names, so it's cached until the next Java structure change and isn't
+	 * rebuilt while the JSNI body is edited.
+	 */
+	@Nonnull
+	private static String getFunctionPrefix(@Nonnull final PsiMethod method)
+	{
+		CachedValue<String> value = method.getUserData(JSNI_FUNCTION_PREFIX_KEY);
+		if(value == null)
+		{
+			value = CachedValuesManager.getManager(method.getProject()).createCachedValue(new CachedValueProvider<String>()
+			{
+				@Override
+				public Result<String> compute()
+				{
+					return Result.create(buildFunctionPrefix(method), PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT);
 				}
-			}
+			}, false);
+			method.putUserData(JSNI_FUNCTION_PREFIX_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	@Nonnull
+	private static String buildFunctionPrefix(@Nonnull PsiMethod method)
+	{
+		@NonNls StringBuilder prefix = new StringBuilder();
+		prefix.append("function ");
+		prefix.append(method.getName());
+		prefix.append(" ( ");
+		final PsiParameter[] parameters = method.getParameterList().getParameters();
+		for(int i = 0; i != parameters.length; ++i)
+		{
+			prefix.append(parameters[i].getName());
+			prefix.append(",");
 		}
+
+		prefix.append("$wnd");
+		prefix.append(",");
+		prefix.append("$doc");
+
+		prefix.append(") {");
+		return prefix.toString();
 	}
 }
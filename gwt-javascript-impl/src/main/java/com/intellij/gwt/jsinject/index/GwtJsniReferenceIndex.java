@@ -0,0 +1,154 @@
+package com.intellij.gwt.jsinject.index;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import com.intellij.gwt.jsinject.GwtJsniUtil;
+import com.intellij.java.language.impl.JavaFileType;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.index.io.DataIndexer;
+import consulo.index.io.EnumeratorStringDescriptor;
+import consulo.index.io.ID;
+import consulo.index.io.KeyDescriptor;
+import consulo.index.io.data.DataExternalizer;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.stub.FileBasedIndex;
+import consulo.language.psi.stub.FileBasedIndexExtension;
+import consulo.language.psi.stub.FileContent;
+import consulo.virtualFileSystem.VirtualFile;
+
+import jakarta.annotation.Nonnull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps names of Java members referenced from JSNI bodies (<code>@pkg.Class::member(sig)</code>) to Java files containing these references.
+ * The keys are extracted from the comment text directly so building the index doesn't require injected PSI. The value tells whether the name
+ * also occurs in the file outside JSNI bodies; files where it doesn't are left out of the default word search, see
+ * {@link com.intellij.gwt.jsinject.search.GwtJsniUseScopeOptimizer}.
+ */
+@ExtensionImpl
+public class GwtJsniReferenceIndex extends FileBasedIndexExtension<String, Boolean>
+{
+	private static final ID<String, Boolean> NAME = ID.create("GwtJsniReference");
+	private static final FileBasedIndex.InputFilter INPUT_FILTER = (project, file) -> file.getFileType() == JavaFileType.INSTANCE;
+	private static final GwtMetric LOOKUP_METRIC = GwtTelemetry.getMetric("index.GwtJsniReference");
+	private final GwtJsniReferenceIndexer myIndexer = new GwtJsniReferenceIndexer();
+	private final EnumeratorStringDescriptor myKeyDescriptor = new EnumeratorStringDescriptor();
+	private final BooleanExternalizer myValueExternalizer = new BooleanExternalizer();
+
+	@Nonnull
+	@Override
+	public ID<String, Boolean> getName()
+	{
+		return NAME;
+	}
+
+	@Nonnull
+	@Override
+	public DataIndexer<String, Boolean, FileContent> getIndexer()
+	{
+		return myIndexer;
+	}
+
+	@Nonnull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor()
+	{
+		return myKeyDescriptor;
+	}
+
+	@Nonnull
+	@Override
+	public DataExternalizer<Boolean> getValueExternalizer()
+	{
+		return myValueExternalizer;
+	}
+
+	@Nonnull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter()
+	{
+		return INPUT_FILTER;
+	}
+
+	@Override
+	public boolean dependsOnFileContent()
+	{
+		return true;
+	}
+
+	@Override
+	public int getVersion()
+	{
+		return 1;
+	}
+
+	/**
+	 * @return files referencing the member name from JSNI bodies only, the name doesn't occur anywhere else in them
+	 */
+	@Nonnull
+	public static List<VirtualFile> getFilesReferencingMemberOnlyFromJsni(@Nonnull String memberName, @Nonnull GlobalSearchScope scope)
+	{
+		long start = LOOKUP_METRIC.start();
+		final List<VirtualFile> result = new ArrayList<VirtualFile>();
+		try
+		{
+			FileBasedIndex.getInstance().processValues(NAME, memberName, null, (file, outsideJsni) -> {
+				if(!outsideJsni)
+				{
+					result.add(file);
+				}
+				return true;
+			}, scope);
+		}
+		finally
+		{
+			LOOKUP_METRIC.stop(start);
+		}
+		return result;
+	}
+
+	private static class GwtJsniReferenceIndexer implements DataIndexer<String, Boolean, FileContent>
+	{
+		@Override
+		@Nonnull
+		public Map<String, Boolean> map(FileContent inputData)
+		{
+			CharSequence text = inputData.getContentAsText();
+			final Map<String, Void> memberNames = new HashMap<String, Void>();
+			GwtJsniUtil.collectReferencedMemberNames(text, memberNames);
+			if(memberNames.isEmpty())
+			{
+				return new HashMap<String, Boolean>();
+			}
+
+			Map<String, Boolean> result = new HashMap<String, Boolean>();
+			for(String name : memberNames.keySet())
+			{
+				result.put(name, Boolean.FALSE);
+			}
+			GwtJsniUtil.markNamesOutsideJsni(text, result);
+			return result;
+		}
+	}
+
+	private static class BooleanExternalizer implements DataExternalizer<Boolean>
+	{
+		@Override
+		public void save(@Nonnull DataOutput out, Boolean value) throws IOException
+		{
+			out.writeBoolean(value);
+		}
+
+		@Override
+		public Boolean read(@Nonnull DataInput in) throws IOException
+		{
+			return in.readBoolean();
+		}
+	}
+}
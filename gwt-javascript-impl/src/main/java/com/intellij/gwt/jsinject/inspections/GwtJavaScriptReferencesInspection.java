@@ -59,7 +59,7 @@ public class GwtJavaScriptReferencesInspection extends BaseGwtInspection {
 
     @Override
     @Nullable
-    public ProblemDescriptor[] checkFile(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
+    public ProblemDescriptor[] checkFileImpl(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
         if (!(file.getLanguageVersion() instanceof GwtJavaScriptVersion)) {
             return ProblemDescriptor.EMPTY_ARRAY;
         }
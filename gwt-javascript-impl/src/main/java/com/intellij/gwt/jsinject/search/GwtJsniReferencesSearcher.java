@@ -0,0 +1,134 @@
+package com.intellij.gwt.jsinject.search;
+
+import com.intellij.gwt.jsinject.GwtClassMemberReference;
+import com.intellij.gwt.jsinject.GwtJsniUtil;
+import com.intellij.gwt.jsinject.JSGwtReferenceExpressionImpl;
+import com.intellij.gwt.jsinject.index.GwtJsniReferenceIndex;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.application.AccessRule;
+import consulo.document.util.TextRange;
+import consulo.language.inject.InjectedLanguageManager;
+import consulo.language.psi.*;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.search.ReferencesSearch;
+import consulo.language.psi.search.ReferencesSearchQueryExecutor;
+import consulo.language.psi.util.PsiTreeUtil;
+import consulo.project.DumbService;
+import consulo.util.lang.Pair;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Finds JSNI references to Java methods and fields in files which {@link GwtJsniUseScopeOptimizer} excludes from the default search, i.e.
+ * files mentioning the member name only in JSNI bodies. Only JSNI bodies containing <code>::name</code> are injected and resolved.
+ */
+@ExtensionImpl
+public class GwtJsniReferencesSearcher implements ReferencesSearchQueryExecutor
+{
+	@Override
+	public boolean execute(@Nonnull ReferencesSearch.SearchParameters queryParameters, @Nonnull Predicate<? super PsiReference> consumer)
+	{
+		final PsiElement element = queryParameters.getElementToSearch();
+		final String memberName = AccessRule.read(() -> GwtJsniUseScopeOptimizer.getJsniMemberName(element));
+		if(memberName == null || !(queryParameters.getScopeDeterminedByUser() instanceof GlobalSearchScope userScope))
+		{
+			return true;
+		}
+
+		// the effective search scope doesn't contain the files excluded by GwtJsniUseScopeOptimizer
+		List<VirtualFile> files = AccessRule.read(() -> {
+			if(DumbService.isDumb(element.getProject()))
+			{
+				return null;
+			}
+			GlobalSearchScope scope = userScope.intersectWith(GwtJsniUseScopeOptimizer.getFullUseScope(element));
+			return GwtJsniReferenceIndex.getFilesReferencingMemberOnlyFromJsni(memberName, scope);
+		});
+		if(files == null || files.isEmpty())
+		{
+			return true;
+		}
+
+		final PsiManager psiManager = PsiManager.getInstance(element.getProject());
+		for(VirtualFile file : files)
+		{
+			Boolean result = AccessRule.read(() -> processFile(psiManager, file, element, memberName, consumer));
+			if(result != null && !result)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@RequiredReadAction
+	private static boolean processFile(PsiManager psiManager,
+			VirtualFile file,
+			PsiElement element,
+			String memberName,
+			Predicate<? super PsiReference> consumer)
+	{
+		if(!file.isValid())
+		{
+			return true;
+		}
+
+		PsiFile psiFile = psiManager.findFile(file);
+		if(psiFile == null)
+		{
+			return true;
+		}
+
+		CharSequence text = psiFile.getViewProvider().getContents();
+		String jsniReference = GwtJsniUtil.MEMBER_SEPARATOR + memberName;
+		InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(psiFile.getProject());
+		for(int offset : GwtJsniUtil.findJsniCommentOffsets(text))
+		{
+			if(!containsJsniReference(text, offset, jsniReference))
+			{
+				continue;
+			}
+
+			PsiComment comment = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), PsiComment.class, false);
+			if(!(comment instanceof PsiLanguageInjectionHost))
+			{
+				continue;
+			}
+
+			List<Pair<PsiElement, TextRange>> injectedFiles = injectedLanguageManager.getInjectedPsiFiles(comment);
+			if(injectedFiles == null)
+			{
+				continue;
+			}
+
+			for(Pair<PsiElement, TextRange> pair : injectedFiles)
+			{
+				for(JSGwtReferenceExpressionImpl expression : PsiTreeUtil.findChildrenOfType(pair.getFirst(), JSGwtReferenceExpressionImpl.class))
+				{
+					for(PsiReference reference : expression.getReferences())
+					{
+						if(reference instanceof GwtClassMemberReference && reference.isReferenceTo(element) && !consumer.test(reference))
+						{
+							return false;
+						}
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether the JSNI body starting at the offset contains the reference text
+	 */
+	private static boolean containsJsniReference(CharSequence text, int bodyStart, String jsniReference)
+	{
+		int bodyEnd = GwtJsniUtil.indexOf(text, GwtJsniUtil.JSNI_END, bodyStart);
+		int reference = GwtJsniUtil.indexOf(text, jsniReference, bodyStart);
+		return reference != -1 && (bodyEnd == -1 || reference < bodyEnd);
+	}
+}
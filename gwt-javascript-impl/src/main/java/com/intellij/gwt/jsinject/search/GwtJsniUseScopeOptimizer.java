@@ -0,0 +1,69 @@
+package com.intellij.gwt.jsinject.search;
+
+import com.intellij.gwt.jsinject.index.GwtJsniReferenceIndex;
+import com.intellij.java.language.psi.PsiField;
+import com.intellij.java.language.psi.PsiMethod;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.language.psi.PsiElement;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.search.UseScopeOptimizer;
+import consulo.project.DumbService;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Excludes Java files which mention a method or field only in JSNI bodies from the default reference search. The word search would inject
+ * and resolve every JSNI body of these files; {@link GwtJsniReferencesSearcher} finds the references there from the JSNI reference index
+ * instead. Files where the name also occurs outside JSNI bodies stay in the default search, which finds their JSNI references as well.
+ */
+@ExtensionImpl
+public class GwtJsniUseScopeOptimizer extends UseScopeOptimizer
+{
+	@Nullable
+	@Override
+	@RequiredReadAction
+	public GlobalSearchScope getScopeToExclude(@Nonnull PsiElement element)
+	{
+		String memberName = getJsniMemberName(element);
+		if(memberName == null || DumbService.isDumb(element.getProject()))
+		{
+			return null;
+		}
+
+		List<VirtualFile> files = GwtJsniReferenceIndex.getFilesReferencingMemberOnlyFromJsni(memberName, getFullUseScope(element));
+		return files.isEmpty() ? null : GlobalSearchScope.filesScope(element.getProject(), files);
+	}
+
+	/**
+	 * @return name of the method or field as it's referenced from JSNI, {@code null} for other elements and constructors: the default
+	 * search looks for the class name for them, which JSNI references contain anyway
+	 */
+	@Nullable
+	@RequiredReadAction
+	static String getJsniMemberName(@Nullable PsiElement element)
+	{
+		if(element instanceof PsiMethod method)
+		{
+			return method.isConstructor() ? null : method.getName();
+		}
+		if(element instanceof PsiField field)
+		{
+			return field.getName();
+		}
+		return null;
+	}
+
+	/**
+	 * @return use scope of the element before exclusions, the effective search scope doesn't contain the excluded files
+	 */
+	@Nonnull
+	@RequiredReadAction
+	static GlobalSearchScope getFullUseScope(@Nonnull PsiElement element)
+	{
+		return element.getUseScope() instanceof GlobalSearchScope scope ? scope : GlobalSearchScope.allScope(element.getProject());
+	}
+}
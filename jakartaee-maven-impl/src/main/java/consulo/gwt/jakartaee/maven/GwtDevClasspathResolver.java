@@ -0,0 +1,447 @@
+package consulo.gwt.jakartaee.maven;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import consulo.logging.Logger;
+import consulo.maven.rt.server.common.model.MavenArtifact;
+import consulo.maven.rt.server.common.model.MavenArtifactNode;
+import consulo.maven.rt.server.common.model.MavenArtifactState;
+import consulo.util.io.FileUtil;
+import consulo.util.jdom.JDOMUtil;
+import consulo.util.lang.StringUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jdom.Element;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.idea.maven.project.MavenProject;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves jars which gwt-dev from Maven Central depends on (asm etc.). If gwt-dev is a dependency of the Maven project they are taken from
+ * its imported dependency tree. Otherwise transitive dependencies of the gwt-dev pom are resolved from poms in the local Maven repository;
+ * this result is computed once per (gwt version, local repository) and stored in the GWT caches directory, it's recomputed if the gwt-dev
+ * pom changes or a cached jar disappears.
+ */
+public class GwtDevClasspathResolver
+{
+	private static final Logger LOG = Logger.getInstance(GwtDevClasspathResolver.class);
+
+	private static final int FORMAT_VERSION = 3;
+	@NonNls
+	private static final String CACHES_DIR_NAME = "gwt-dev-classpath";
+	@NonNls
+	private static final String GWT_GROUP_ID = "com.google.gwt";
+	@NonNls
+	private static final String GWT_DEV_ARTIFACT_ID = "gwt-dev";
+	private static final Set<String> SKIPPED_SCOPES = new HashSet<String>(Arrays.asList("test", "provided", "system"));
+
+	private static final Map<String, List<String>> ourClasspaths = new ConcurrentHashMap<String, List<String>>();
+
+	private GwtDevClasspathResolver()
+	{
+	}
+
+	@Nonnull
+	public static File getArtifactFile(@Nonnull File localRepository, @Nonnull String groupId, @Nonnull String artifactId, @Nonnull String version,
+			@Nonnull String extension)
+	{
+		return new File(localRepository, groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + artifactId + "-" + version + "." + extension);
+	}
+
+	/**
+	 * @return paths of jars required by gwt-dev of the given version
+	 */
+	@Nonnull
+	public static List<String> getAdditionalClasspath(@Nonnull MavenProject project, @Nonnull File localRepository, @Nonnull String gwtVersion)
+	{
+		MavenArtifactNode devNode = findNode(project.getDependencyTree(), GWT_GROUP_ID, GWT_DEV_ARTIFACT_ID);
+		if(devNode != null)
+		{
+			Set<String> result = new LinkedHashSet<String>();
+			collectDependencies(project, devNode, result);
+			return new ArrayList<String>(result);
+		}
+		return getRepositoryClasspath(localRepository, gwtVersion);
+	}
+
+	@Nullable
+	private static MavenArtifactNode findNode(@Nonnull List<MavenArtifactNode> nodes, @Nonnull String groupId, @Nonnull String artifactId)
+	{
+		for(MavenArtifactNode node : nodes)
+		{
+			MavenArtifact artifact = node.getArtifact();
+			if(groupId.equals(artifact.getGroupId()) && artifactId.equals(artifact.getArtifactId()))
+			{
+				return node;
+			}
+			MavenArtifactNode child = findNode(node.getDependencies(), groupId, artifactId);
+			if(child != null)
+			{
+				return child;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Collects transitive dependencies of the node. Conflicting and duplicated versions are replaced by the version Maven picked for the
+	 * project.
+	 */
+	private static void collectDependencies(@Nonnull MavenProject project, @Nonnull MavenArtifactNode node, @Nonnull Set<String> result)
+	{
+		for(MavenArtifactNode child : node.getDependencies())
+		{
+			MavenArtifact artifact = child.getArtifact();
+			if(child.getState() == MavenArtifactState.EXCLUDED || artifact.isOptional() || SKIPPED_SCOPES.contains(child.getOriginalScope()))
+			{
+				continue;
+			}
+
+			List<MavenArtifact> resolved = project.findDependencies(artifact.getGroupId(), artifact.getArtifactId());
+			File file = resolved.isEmpty() ? artifact.getFile() : resolved.get(0).getFile();
+			if(file.exists() && result.add(file.getPath()))
+			{
+				collectDependencies(project, child, result);
+			}
+		}
+	}
+
+	@Nonnull
+	private static List<String> getRepositoryClasspath(@Nonnull File localRepository, @Nonnull String gwtVersion)
+	{
+		File devPom = getArtifactFile(localRepository, GWT_GROUP_ID, GWT_DEV_ARTIFACT_ID, gwtVersion, "pom");
+		String key = gwtVersion + "|" + FileUtil.toSystemIndependentName(localRepository.getAbsolutePath());
+		long pomTimestamp = devPom.lastModified();
+		if(pomTimestamp == 0)
+		{
+			return Collections.emptyList();
+		}
+
+		String memoryKey = key + "|" + pomTimestamp;
+		List<String> classpath = ourClasspaths.get(memoryKey);
+		if(classpath != null)
+		{
+			return classpath;
+		}
+
+		GwtCacheFile cacheFile = GwtCacheFile.forName(CACHES_DIR_NAME, Integer.toHexString(key.hashCode()), FORMAT_VERSION);
+		classpath = load(cacheFile, key, pomTimestamp);
+		if(classpath == null)
+		{
+			classpath = Collections.unmodifiableList(resolve(localRepository, devPom));
+			save(cacheFile, key, pomTimestamp, classpath);
+		}
+		ourClasspaths.put(memoryKey, classpath);
+		return classpath;
+	}
+
+	/**
+	 * Resolves transitive dependencies of the gwt-dev pom like Maven does: test, provided and system scoped and optional dependencies are
+	 * skipped below the first level too, exclusions are inherited, the nearest declaration of an artifact wins and versions managed by the
+	 * gwt-dev pom apply to all transitive dependencies.
+	 */
+	@Nonnull
+	private static List<String> resolve(File localRepository, File devPom)
+	{
+		List<String> result = new ArrayList<String>();
+		Pom root = Pom.load(localRepository, devPom, 0);
+		if(root == null)
+		{
+			return result;
+		}
+
+		Set<String> visited = new HashSet<String>();
+		visited.add(GWT_GROUP_ID + ":" + GWT_DEV_ARTIFACT_ID);
+		Deque<PendingPom> queue = new ArrayDeque<PendingPom>();
+		queue.add(new PendingPom(root, Collections.<String>emptySet(), true));
+		while(!queue.isEmpty())
+		{
+			PendingPom pending = queue.poll();
+			Pom pom = pending.myPom;
+			for(Element dependency : pom.getDependencies())
+			{
+				String groupId = pom.interpolate(dependency.getChildTextTrim("groupId", null));
+				String artifactId = pom.interpolate(dependency.getChildTextTrim("artifactId", null));
+				if(StringUtil.isEmpty(groupId) || StringUtil.isEmpty(artifactId) || SKIPPED_SCOPES.contains(dependency.getChildTextTrim("scope", null)) ||
+						"true".equals(pom.interpolate(dependency.getChildTextTrim("optional", null))))
+				{
+					continue;
+				}
+				String id = groupId + ":" + artifactId;
+				if(pending.myExclusions.contains(id) || pending.myExclusions.contains(groupId + ":*") || !visited.add(id))
+				{
+					continue;
+				}
+
+				String declaredVersion = pom.interpolate(dependency.getChildTextTrim("version", null));
+				if(!pending.myDirect || declaredVersion == null)
+				{
+					String managedVersion = root.getManagedVersion(id);
+					if(managedVersion == null)
+					{
+						managedVersion = pom.getManagedVersion(id);
+					}
+					if(managedVersion != null)
+					{
+						declaredVersion = managedVersion;
+					}
+				}
+				String version = findVersion(localRepository, groupId, artifactId, declaredVersion);
+				if(version == null)
+				{
+					continue;
+				}
+
+				String type = dependency.getChildTextTrim("type", null);
+				File jarFile = getArtifactFile(localRepository, groupId, artifactId, version, "jar");
+				if((type == null || "jar".equals(type)) && jarFile.exists())
+				{
+					result.add(jarFile.getPath());
+				}
+
+				Pom dependencyPom = Pom.load(localRepository, getArtifactFile(localRepository, groupId, artifactId, version, "pom"), 0);
+				if(dependencyPom != null)
+				{
+					Set<String> exclusions = new HashSet<String>(pending.myExclusions);
+					for(Element exclusionsElement : dependency.getChildren("exclusions", null))
+					{
+						for(Element exclusion : exclusionsElement.getChildren("exclusion", null))
+						{
+							exclusions.add(exclusion.getChildTextTrim("groupId", null) + ":" + exclusion.getChildTextTrim("artifactId", null));
+						}
+					}
+					queue.add(new PendingPom(dependencyPom, exclusions, false));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the declared version if it's present in the local repository, the latest available version in Maven order otherwise
+	 */
+	@Nullable
+	private static String findVersion(File localRepository, String groupId, String artifactId, @Nullable String declaredVersion)
+	{
+		if(declaredVersion != null && (getArtifactFile(localRepository, groupId, artifactId, declaredVersion, "pom").exists() ||
+				getArtifactFile(localRepository, groupId, artifactId, declaredVersion, "jar").exists()))
+		{
+			return declaredVersion;
+		}
+
+		String[] versions = new File(localRepository, groupId.replace('.', '/') + "/" + artifactId).list();
+		if(versions == null || versions.length == 0)
+		{
+			return null;
+		}
+		return Collections.max(Arrays.asList(versions), MavenVersionComparator.INSTANCE);
+	}
+
+	@Nullable
+	private static List<String> load(GwtCacheFile cacheFile, String key, long pomTimestamp)
+	{
+		return cacheFile.read(key, input -> {
+			if(input.readLong() != pomTimestamp)
+			{
+				return null;
+			}
+			int count = input.readInt();
+			List<String> paths = new ArrayList<String>(count);
+			for(int i = 0; i < count; i++)
+			{
+				String path = input.readUTF();
+				if(!new File(path).exists())
+				{
+					return null;
+				}
+				paths.add(path);
+			}
+			return Collections.unmodifiableList(paths);
+		});
+	}
+
+	private static void save(GwtCacheFile cacheFile, String key, long pomTimestamp, List<String> paths)
+	{
+		cacheFile.write(key, output -> {
+			output.writeLong(pomTimestamp);
+			output.writeInt(paths.size());
+			for(String path : paths)
+			{
+				output.writeUTF(path);
+			}
+		});
+	}
+
+	private static class PendingPom
+	{
+		private final Pom myPom;
+		private final Set<String> myExclusions;
+		private final boolean myDirect;
+
+		private PendingPom(Pom pom, Set<String> exclusions, boolean direct)
+		{
+			myPom = pom;
+			myExclusions = exclusions;
+			myDirect = direct;
+		}
+	}
+
+	/**
+	 * Pom from the local repository with its parents, enough to find dependencies, managed versions and property values
+	 */
+	private static class Pom
+	{
+		private static final int MAX_PARENTS = 10;
+		private static final int MAX_INTERPOLATIONS = 10;
+
+		private final Element myRoot;
+		@Nullable
+		private final Pom myParent;
+
+		private Pom(Element root, @Nullable Pom parent)
+		{
+			myRoot = root;
+			myParent = parent;
+		}
+
+		@Nullable
+		static Pom load(File localRepository, File file, int depth)
+		{
+			if(depth > MAX_PARENTS || !file.exists())
+			{
+				return null;
+			}
+			Element root;
+			try
+			{
+				root = JDOMUtil.load(file);
+			}
+			catch(Exception e)
+			{
+				LOG.debug(e);
+				return null;
+			}
+
+			Pom parent = null;
+			Element parentElement = root.getChild("parent", null);
+			if(parentElement != null)
+			{
+				String groupId = parentElement.getChildTextTrim("groupId", null);
+				String artifactId = parentElement.getChildTextTrim("artifactId", null);
+				String version = parentElement.getChildTextTrim("version", null);
+				if(groupId != null && artifactId != null && version != null)
+				{
+					parent = load(localRepository, getArtifactFile(localRepository, groupId, artifactId, version, "pom"), depth + 1);
+				}
+			}
+			return new Pom(root, parent);
+		}
+
+		@Nonnull
+		List<Element> getDependencies()
+		{
+			Element dependencies = myRoot.getChild("dependencies", null);
+			return dependencies != null ? dependencies.getChildren("dependency", null) : Collections.<Element>emptyList();
+		}
+
+		/**
+		 * @return version from the dependency management of this pom or its parents
+		 */
+		@Nullable
+		String getManagedVersion(String id)
+		{
+			for(Pom pom = this; pom != null; pom = pom.myParent)
+			{
+				Element management = pom.myRoot.getChild("dependencyManagement", null);
+				Element dependencies = management != null ? management.getChild("dependencies", null) : null;
+				if(dependencies == null)
+				{
+					continue;
+				}
+				for(Element dependency : dependencies.getChildren("dependency", null))
+				{
+					String dependencyId = interpolate(dependency.getChildTextTrim("groupId", null)) + ":" + interpolate(dependency.getChildTextTrim("artifactId", null));
+					if(id.equals(dependencyId))
+					{
+						return interpolate(dependency.getChildTextTrim("version", null));
+					}
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * @return the text with <code>${...}</code> references to properties of this pom or its parents and to project coordinates
+		 * replaced, {@code null} if some reference can't be resolved
+		 */
+		@Nullable
+		String interpolate(@Nullable String text)
+		{
+			for(int i = 0; text != null && i < MAX_INTERPOLATIONS; i++)
+			{
+				int start = text.indexOf("${");
+				if(start == -1)
+				{
+					return text;
+				}
+				int end = text.indexOf('}', start);
+				if(end == -1)
+				{
+					return null;
+				}
+				String value = getProperty(text.substring(start + 2, end));
+				text = value != null ? text.substring(0, start) + value + text.substring(end + 1) : null;
+			}
+			return text != null && !text.contains("${") ? text : null;
+		}
+
+		@Nullable
+		private String getProperty(String name)
+		{
+			switch(name)
+			{
+				case "project.version":
+				case "pom.version":
+				case "version":
+					return getCoordinate("version");
+				case "project.groupId":
+				case "pom.groupId":
+				case "groupId":
+					return getCoordinate("groupId");
+				case "project.artifactId":
+					return myRoot.getChildTextTrim("artifactId", null);
+				case "project.parent.version":
+					return myParent != null ? myParent.getCoordinate("version") : null;
+				case "project.parent.groupId":
+					return myParent != null ? myParent.getCoordinate("groupId") : null;
+			}
+			for(Pom pom = this; pom != null; pom = pom.myParent)
+			{
+				Element properties = pom.myRoot.getChild("properties", null);
+				String value = properties != null ? properties.getChildTextTrim(name, null) : null;
+				if(value != null)
+				{
+					return value;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * @return groupId or version of the pom, inherited from the parent if not specified
+		 */
+		@Nullable
+		private String getCoordinate(String name)
+		{
+			String value = myRoot.getChildTextTrim(name, null);
+			if(value != null)
+			{
+				return value;
+			}
+			Element parent = myRoot.getChild("parent", null);
+			return parent != null ? parent.getChildTextTrim(name, null) : null;
+		}
+	}
+}
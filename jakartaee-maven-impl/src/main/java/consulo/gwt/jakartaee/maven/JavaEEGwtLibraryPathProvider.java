@@ -24,20 +24,15 @@ import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
 import consulo.maven.rt.server.common.model.MavenArtifact;
 import consulo.module.content.layer.ModuleRootLayer;
 import consulo.module.extension.ModuleExtension;
-import consulo.util.collection.ArrayUtil;
-import consulo.util.jdom.JDOMUtil;
 import consulo.virtualFileSystem.LocalFileSystem;
 import consulo.virtualFileSystem.VirtualFile;
 import consulo.virtualFileSystem.archive.ArchiveVfsUtil;
-import org.jdom.Element;
 import org.jetbrains.idea.maven.project.MavenProject;
 import org.jetbrains.idea.maven.project.MavenProjectsManager;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -90,10 +85,9 @@ public class JavaEEGwtLibraryPathProvider implements GwtLibraryPathProvider
 			return new Info(GwtVersionImpl.VERSION_1_6_OR_LATER, null, null);
 		}
 
-		String ver = mavenArtifact.getVersion();
-		final String devPrefix = "com/google/gwt/gwt-dev/" + ver + "/" + "gwt-dev-" + ver;
+		final String ver = mavenArtifact.getVersion();
 		final File localRepository = mavenProjectsManager.getLocalRepository();
-		File devJar = new File(localRepository, devPrefix + ".jar");
+		File devJar = GwtDevClasspathResolver.getArtifactFile(localRepository, "com.google.gwt", "gwt-dev", ver, "jar");
 		return new Info(GwtVersionImpl.VERSION_1_6_OR_LATER, file.getPath(), devJar.getPath())
 		{
 			/**
@@ -104,45 +98,7 @@ public class JavaEEGwtLibraryPathProvider implements GwtLibraryPathProvider
 			@Override
 			public List<String> getAdditionalClasspath()
 			{
-				List<String> paths = new ArrayList<String>();
-				File pomFile = new File(localRepository, devPrefix + ".pom");
-				if(pomFile.exists())
-				{
-					try
-					{
-						Element element = JDOMUtil.load(pomFile);
-						for(Element dependencies : element.getChildren("dependencies", null))
-						{
-							for(Element dependency : dependencies.getChildren("dependency", null))
-							{
-								String groupId = dependency.getChildText("groupId", null);
-								String artifactId = dependency.getChildText("artifactId", null);
-
-								File directory = new File(localRepository, groupId.replace(".", "/") + "/" + artifactId);
-								if(directory.exists())
-								{
-									String[] list = directory.list();
-									Arrays.sort(list);
-									String lastElement = ArrayUtil.getLastElement(list);
-									if(lastElement == null)
-									{
-										continue;
-									}
-
-									File jarFile = new File(directory, lastElement + "/" + artifactId + "-" + lastElement + ".jar");
-									if(jarFile.exists())
-									{
-										paths.add(jarFile.getPath());
-									}
-								}
-							}
-						}
-					}
-					catch(Exception ignored)
-					{
-					}
-				}
-				return paths;
+				return GwtDevClasspathResolver.getAdditionalClasspath(project, localRepository, ver);
 			}
 		};
 	}
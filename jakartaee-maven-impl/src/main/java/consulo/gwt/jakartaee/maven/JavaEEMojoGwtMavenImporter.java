@@ -17,6 +17,7 @@
 package consulo.gwt.jakartaee.maven;
 
 import consulo.annotation.component.ExtensionImpl;
+import consulo.gwt.base.module.extension.GwtModuleExtensionUtil;
 import consulo.gwt.jakartaee.module.extension.JavaEEGoogleGwtModuleExtension;
 import consulo.maven.importing.MavenImporterFromBuildPlugin;
 import consulo.module.Module;
@@ -58,5 +59,6 @@ public class JavaEEMojoGwtMavenImporter extends MavenImporterFromBuildPlugin
 			List<MavenProjectsProcessorTask> list)
 	{
 		enableModuleExtension(module, mavenModifiableModelsProvider, JavaEEGoogleGwtModuleExtension.class);
+		GwtModuleExtensionUtil.dropLibraryInfoCache();
 	}
 }
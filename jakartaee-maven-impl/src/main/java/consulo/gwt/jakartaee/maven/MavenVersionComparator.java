@@ -0,0 +1,220 @@
+package consulo.gwt.jakartaee.maven;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Orders versions the way Maven's <code>ComparableVersion</code> does: numbers are compared numerically, known qualifiers are ordered
+ * <code>alpha &lt; beta &lt; milestone &lt; rc &lt; snapshot &lt; (release) &lt; sp</code>, unknown qualifiers come after them in
+ * lexical order, and trailing zeros and release qualifiers are ignored, so <code>1.0</code>, <code>1</code> and <code>1.0.0-ga</code>
+ * are equal.
+ */
+class MavenVersionComparator implements Comparator<String>
+{
+	static final MavenVersionComparator INSTANCE = new MavenVersionComparator();
+
+	private static final List<String> QUALIFIERS = Arrays.asList("alpha", "beta", "milestone", "rc", "snapshot", "", "sp");
+	private static final Map<String, String> ALIASES = new HashMap<String, String>();
+	private static final String RELEASE_INDEX = String.valueOf(QUALIFIERS.indexOf(""));
+
+	static
+	{
+		ALIASES.put("ga", "");
+		ALIASES.put("final", "");
+		ALIASES.put("release", "");
+		ALIASES.put("cr", "rc");
+	}
+
+	@Override
+	public int compare(String version1, String version2)
+	{
+		return compareItems(parse(version1), parse(version2));
+	}
+
+	/**
+	 * @return list of {@link BigInteger}, {@link String} qualifier and nested list items
+	 */
+	@Nonnull
+	private static List<Object> parse(@Nonnull String version)
+	{
+		version = version.toLowerCase(Locale.ROOT);
+		List<Object> root = new ArrayList<Object>();
+		List<Object> list = root;
+		Deque<List<Object>> stack = new ArrayDeque<List<Object>>();
+		stack.push(root);
+
+		boolean digit = false;
+		int start = 0;
+		for(int i = 0; i < version.length(); i++)
+		{
+			char c = version.charAt(i);
+			if(c == '.')
+			{
+				list.add(i == start ? BigInteger.ZERO : item(version.substring(start, i), digit, false));
+				start = i + 1;
+			}
+			else if(c == '-')
+			{
+				list.add(i == start ? BigInteger.ZERO : item(version.substring(start, i), digit, false));
+				start = i + 1;
+				list = newSublist(list, stack);
+			}
+			else if(Character.isDigit(c))
+			{
+				if(!digit && i > start)
+				{
+					list.add(item(version.substring(start, i), false, true));
+					start = i;
+					list = newSublist(list, stack);
+				}
+				digit = true;
+			}
+			else
+			{
+				if(digit && i > start)
+				{
+					list.add(item(version.substring(start, i), true, false));
+					start = i;
+					list = newSublist(list, stack);
+				}
+				digit = false;
+			}
+		}
+		if(version.length() > start)
+		{
+			list.add(item(version.substring(start), digit, false));
+		}
+
+		while(!stack.isEmpty())
+		{
+			normalize(stack.pop());
+		}
+		return root;
+	}
+
+	private static List<Object> newSublist(List<Object> list, Deque<List<Object>> stack)
+	{
+		List<Object> sublist = new ArrayList<Object>();
+		list.add(sublist);
+		stack.push(sublist);
+		return sublist;
+	}
+
+	private static Object item(String text, boolean digit, boolean followedByDigit)
+	{
+		if(digit)
+		{
+			return new BigInteger(text);
+		}
+		if(followedByDigit && text.length() == 1)
+		{
+			switch(text.charAt(0))
+			{
+				case 'a':
+					return "alpha";
+				case 'b':
+					return "beta";
+				case 'm':
+					return "milestone";
+			}
+		}
+		String alias = ALIASES.get(text);
+		return alias != null ? alias : text;
+	}
+
+	/**
+	 * Removes trailing items equal to zero or the release qualifier
+	 */
+	private static void normalize(List<Object> list)
+	{
+		for(int i = list.size() - 1; i >= 0; i--)
+		{
+			Object item = list.get(i);
+			if(isNull(item))
+			{
+				list.remove(i);
+			}
+			else if(!(item instanceof List))
+			{
+				break;
+			}
+		}
+	}
+
+	private static boolean isNull(Object item)
+	{
+		if(item instanceof BigInteger)
+		{
+			return BigInteger.ZERO.equals(item);
+		}
+		if(item instanceof String)
+		{
+			return ((String) item).isEmpty();
+		}
+		return ((List<?>) item).isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compareItem(@Nullable Object item1, @Nullable Object item2)
+	{
+		if(item1 == null)
+		{
+			return item2 == null ? 0 : -compareItem(item2, null);
+		}
+		if(item1 instanceof BigInteger)
+		{
+			if(item2 == null)
+			{
+				return BigInteger.ZERO.equals(item1) ? 0 : 1;
+			}
+			return item2 instanceof BigInteger ? ((BigInteger) item1).compareTo((BigInteger) item2) : 1;
+		}
+		if(item1 instanceof String)
+		{
+			if(item2 == null)
+			{
+				return comparableQualifier((String) item1).compareTo(RELEASE_INDEX);
+			}
+			return item2 instanceof String ? comparableQualifier((String) item1).compareTo(comparableQualifier((String) item2)) : -1;
+		}
+		List<Object> list = (List<Object>) item1;
+		if(item2 == null)
+		{
+			return list.isEmpty() ? 0 : compareItem(list.get(0), null);
+		}
+		if(item2 instanceof BigInteger)
+		{
+			return -1;
+		}
+		if(item2 instanceof String)
+		{
+			return 1;
+		}
+		return compareItems(list, (List<Object>) item2);
+	}
+
+	private static int compareItems(List<Object> list1, List<Object> list2)
+	{
+		for(int i = 0; i < Math.max(list1.size(), list2.size()); i++)
+		{
+			int result = compareItem(i < list1.size() ? list1.get(i) : null, i < list2.size() ? list2.get(i) : null);
+			if(result != 0)
+			{
+				return result;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @return index of a known qualifier, unknown ones are ordered after all known in lexical order
+	 */
+	private static String comparableQualifier(String qualifier)
+	{
+		int index = QUALIFIERS.indexOf(qualifier);
+		return index != -1 ? String.valueOf(index) : QUALIFIERS.size() + "-" + qualifier;
+	}
+}
@@ -0,0 +1,93 @@
+package com.intellij.gwt.jakartaee.run;
+
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.localize.LocalizeValue;
+import consulo.process.ProcessHandler;
+import consulo.process.ProcessOutputTypes;
+import consulo.process.event.ProcessAdapter;
+import consulo.process.event.ProcessEvent;
+import consulo.util.dataholder.Key;
+import org.jetbrains.annotations.NonNls;
+
+/**
+ * Watches code server output and reports how long each (re)compile took to the run console.
+ */
+class GwtCodeServerOutputListener extends ProcessAdapter
+{
+	@NonNls
+	private static final String COMPILE_STARTED = "Compiling module ";
+	@NonNls
+	private static final String[] COMPILE_SUCCEEDED = {"Compile completed in ", "Linking succeeded"};
+	@NonNls
+	private static final String[] COMPILE_FAILED = {"Compile failed", "Compiler returned false"};
+
+	private final ProcessHandler myProcessHandler;
+	private volatile long myCompileStart;
+	private volatile int myCompileCount;
+
+	GwtCodeServerOutputListener(ProcessHandler processHandler)
+	{
+		myProcessHandler = processHandler;
+	}
+
+	@Override
+	public void onTextAvailable(ProcessEvent event, Key outputType)
+	{
+		if(outputType == ProcessOutputTypes.SYSTEM)
+		{
+			return;
+		}
+
+		String text = event.getText();
+		if(text.contains(COMPILE_STARTED))
+		{
+			myCompileStart = System.currentTimeMillis();
+			return;
+		}
+
+		if(myCompileStart == 0)
+		{
+			return;
+		}
+
+		if(containsAny(text, COMPILE_SUCCEEDED))
+		{
+			report(true);
+		}
+		else if(containsAny(text, COMPILE_FAILED))
+		{
+			report(false);
+		}
+	}
+
+	private void report(boolean succeeded)
+	{
+		String time = String.valueOf(System.currentTimeMillis() - myCompileStart);
+		myCompileStart = 0;
+		int number = myCompileCount++;
+		LocalizeValue message;
+		if(number == 0)
+		{
+			message = succeeded ? GwtLocalize.messageSuperDevModeCompileFinished0(time) : GwtLocalize.messageSuperDevModeCompileFailed0(time);
+		}
+		else
+		{
+			String recompile = String.valueOf(number);
+			message = succeeded ? GwtLocalize.messageSuperDevModeRecompileFinished01(recompile, time) :
+					GwtLocalize.messageSuperDevModeRecompileFailed01(recompile, time);
+		}
+		myProcessHandler.notifyTextAvailable(message.get() + "\n", ProcessOutputTypes.SYSTEM);
+	}
+
+	private static boolean containsAny(String text, String[] patterns)
+	{
+		for(String pattern : patterns)
+		{
+			if(text.contains(pattern))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -17,50 +17,43 @@
 package com.intellij.gwt.jakartaee.run;
 
 import com.intellij.gwt.base.make.GwtCompilerPaths;
-import com.intellij.gwt.base.rpc.RemoteServiceUtil;
+import com.intellij.gwt.base.util.GwtDigestUtil;
+import com.intellij.gwt.sdk.GwtReleaseVersion;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.execution.configurations.JavaCommandLineState;
-import com.intellij.java.language.psi.JavaPsiFacade;
-import com.intellij.java.language.psi.PsiClass;
 import consulo.application.ReadAction;
+import consulo.application.progress.ProgressManager;
 import consulo.application.util.SystemInfo;
 import consulo.execution.ExecutionResult;
 import consulo.execution.executor.Executor;
 import consulo.execution.runner.ExecutionEnvironment;
 import consulo.execution.runner.ProgramRunner;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.gwt.base.module.extension.path.GwtSdkUtil;
 import consulo.gwt.jakartaee.module.extension.JavaEEGoogleGwtModuleExtension;
 import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
 import consulo.java.execution.configurations.OwnJavaParameters;
-import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.logging.Logger;
 import consulo.module.Module;
 import consulo.module.content.ModuleRootManager;
 import consulo.module.content.layer.OrderEnumerator;
 import consulo.process.ExecutionException;
+import consulo.process.ProcessHandler;
+import consulo.process.ProcessOutputTypes;
 import consulo.process.cmd.ParametersList;
 import consulo.process.event.ProcessAdapter;
 import consulo.process.event.ProcessEvent;
-import consulo.util.io.FilePermissionCopier;
 import consulo.util.io.FileUtil;
-import consulo.util.jdom.JDOMUtil;
-import consulo.util.lang.SystemProperties;
 import consulo.virtualFileSystem.VirtualFile;
 import consulo.virtualFileSystem.util.VirtualFileUtil;
-import org.jdom.Document;
-import org.jdom.Element;
-import org.jdom.JDOMException;
 import org.jetbrains.annotations.NonNls;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import javax.xml.stream.XMLStreamException;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.Map;
 
 /**
  * @author nik
@@ -69,7 +62,9 @@ public class GwtCommandLineState extends JavaCommandLineState
 {
 	private static final Logger LOG = Logger.getInstance(GwtCommandLineState.class);
 	@NonNls
-	private static final String WEB_XML_PATH = "com/google/gwt/dev/etc/tomcat/webapps/ROOT/WEB-INF/web.xml";
+	private static final String CODE_SERVER_MAIN_CLASS = "com.google.gwt.dev.codeserver.CodeServer";
+	@NonNls
+	private static final String CODE_SERVER_JAR = "gwt-codeserver.jar";
 	private final Module myModule;
 	private String myRunPage;
 	private String myVMParameters;
@@ -77,6 +72,8 @@ public class GwtCommandLineState extends JavaCommandLineState
 	private final String myShellParameters;
 	private final String myCustomWebXmlUrl;
 	private final GwtLibraryPathProvider.Info myLibraryPathInfo;
+	private final boolean mySuperDevMode;
+	private final boolean myKeepOutput;
 
 	public GwtCommandLineState(final JavaEEGoogleGwtModuleExtension moduleExtension,
 			final ExecutionEnvironment environment,
@@ -84,8 +81,22 @@ public class GwtCommandLineState extends JavaCommandLineState
 			final String vmParameters,
 			final String shellParameters,
 			final String customWebXmlUrl)
+	{
+		this(moduleExtension, environment, runPage, vmParameters, shellParameters, customWebXmlUrl, false, false);
+	}
+
+	public GwtCommandLineState(final JavaEEGoogleGwtModuleExtension moduleExtension,
+			final ExecutionEnvironment environment,
+			final String runPage,
+			final String vmParameters,
+			final String shellParameters,
+			final String customWebXmlUrl,
+			final boolean superDevMode,
+			final boolean keepOutput)
 	{
 		super(environment);
+		mySuperDevMode = superDevMode;
+		myKeepOutput = keepOutput;
 		myModuleExtension = moduleExtension;
 		myShellParameters = shellParameters;
 		myCustomWebXmlUrl = customWebXmlUrl;
@@ -116,6 +127,12 @@ public class GwtCommandLineState extends JavaCommandLineState
 			throw new ExecutionException("gwt-dev.jar is not found");
 		}
 
+		if(mySuperDevMode)
+		{
+			configureCodeServer(params);
+			return params;
+		}
+
 		final GwtVersion sdkVersion = myLibraryPathInfo.getVersion();
 		final ParametersList programParameters = params.getProgramParametersList();
 		programParameters.add("-style");
@@ -142,6 +159,62 @@ public class GwtCommandLineState extends JavaCommandLineState
 		return params;
 	}
 
+	/**
+	 * Super Dev Mode: the code server keeps its work directory between runs and recompiles only changed code on page refresh.
+	 */
+	private void configureCodeServer(OwnJavaParameters params) throws ExecutionException
+	{
+		String devJarPath = myLibraryPathInfo.getDevJarPath();
+		GwtReleaseVersion releaseVersion = GwtSdkUtil.getReleaseVersion(myLibraryPathInfo);
+		if(releaseVersion != null && !releaseVersion.isSuperDevModeSupported())
+		{
+			throw new ExecutionException("Super Dev Mode requires GWT 2.5 or later, found " + releaseVersion);
+		}
+
+		String moduleName = getGwtModuleName();
+		if(moduleName == null)
+		{
+			throw new ExecutionException("GWT module is not specified in run page '" + myRunPage + "'");
+		}
+
+		File workDir = GwtCompilerPaths.getCodeServerWorkDirectory(myModule);
+		final ParametersList programParameters = params.getProgramParametersList();
+		programParameters.add("-workDir");
+		programParameters.add(workDir.getAbsolutePath());
+		programParameters.add("-style");
+		programParameters.add(myModuleExtension.getOutputStyle().getId());
+		if(releaseVersion == null || releaseVersion.isIncrementalCompileSupported())
+		{
+			programParameters.add("-incremental");
+			programParameters.add("-launcherDir");
+			programParameters.add(getOutputPath().getAbsolutePath());
+		}
+		programParameters.addParametersString(myShellParameters);
+		programParameters.add(moduleName);
+
+		VirtualFile[] roots = ModuleRootManager.getInstance(myModule).orderEntries().recursively().sources().getRoots();
+		for(VirtualFile path : roots)
+		{
+			params.getClassPath().add(path);
+		}
+
+		// before GWT 2.7 the code server is shipped as a separate jar
+		File codeServerJar = new File(new File(devJarPath).getParentFile(), CODE_SERVER_JAR);
+		if(codeServerJar.exists())
+		{
+			params.getClassPath().addFirst(codeServerJar.getAbsolutePath());
+		}
+		params.getClassPath().addFirst(devJarPath);
+		params.setMainClass(CODE_SERVER_MAIN_CLASS);
+	}
+
+	@Nullable
+	private String getGwtModuleName()
+	{
+		int index = myRunPage != null ? myRunPage.indexOf('/') : -1;
+		return index > 0 ? myRunPage.substring(0, index) : null;
+	}
+
 	private File getGenPath()
 	{
 		return new File(getTempOutputDir(), "gen");
@@ -149,129 +222,109 @@ public class GwtCommandLineState extends JavaCommandLineState
 
 	private File getOutputPath()
 	{
-		return new File(getTempOutputDir(), "www");
+		return GwtCompilerPaths.getRunWebDirectory(myModule);
 	}
 
 	private File getTempOutputDir()
 	{
-		return new File(GwtCompilerPaths.getOutputRoot(myModule), "run");
+		return GwtCompilerPaths.getRunOutputDirectory(myModule);
 	}
 
 	@Nonnull
 	@Override
 	public ExecutionResult execute(@Nonnull final Executor executor, @Nonnull final ProgramRunner runner) throws ExecutionException
 	{
+		if(mySuperDevMode)
+		{
+			getOutputPath().mkdirs();
+			GwtCompilerPaths.getCodeServerWorkDirectory(myModule).mkdirs();
+
+			ExecutionResult result = super.execute(executor, runner);
+			ProcessHandler processHandler = result.getProcessHandler();
+			processHandler.addProcessListener(new GwtCodeServerOutputListener(processHandler));
+			// the code server doesn't serve the host page, tell where the launcher script goes instead of silently skipping the page
+			processHandler.notifyTextAvailable(GwtLocalize.messageSuperDevModeHostPage(getGwtModuleName(), getOutputPath().getAbsolutePath()).get() + "\n",
+					ProcessOutputTypes.SYSTEM);
+			if(myKeepOutput || myCustomWebXmlUrl != null)
+			{
+				processHandler.notifyTextAvailable(GwtLocalize.messageSuperDevModeIgnoredSettings().get() + "\n", ProcessOutputTypes.SYSTEM);
+			}
+			return result;
+		}
+
+		final File outputDir = getTempOutputDir();
+		GwtRunOutputCache.deleteLeftovers(outputDir, getOutputPath(), getGenPath());
+		if(myKeepOutput)
+		{
+			boolean completed = ProgressManager.getInstance().runProcessWithProgressSynchronously(() -> {
+				String stamp = getOutputStamp();
+				Map<String, String> publicFiles = ReadAction.compute(() -> GwtRunOutputCache.collectPublicFiles(myModule));
+				GwtRunOutputCache.invalidateStale(outputDir, getOutputPath(), getGenPath(), stamp, publicFiles);
+			}, GwtLocalize.progressTitleCheckingGwtRunOutput().get(), true, myModule.getProject());
+			if(!completed)
+			{
+				throw new ExecutionException(GwtLocalize.errorGwtRunOutputCheckCancelled().get());
+			}
+		}
+
 		getOutputPath().mkdirs();
 		getGenPath().mkdirs();
 
-		final File outputDir = getTempOutputDir();
 		if(myCustomWebXmlUrl != null)
 		{
 			File targetWebXml = new File(outputDir.getAbsolutePath() + "/tomcat/webapps/ROOT/WEB-INF/web.xml".replace('/', File.separatorChar));
 			try
 			{
 				targetWebXml.getParentFile().mkdirs();
-				FileUtil.copy(new File(FileUtil.toSystemDependentName(VirtualFileUtil.urlToPath(myCustomWebXmlUrl))), targetWebXml, FilePermissionCopier.BY_NIO2);
-				patchWebXml(targetWebXml);
+				File sourceWebXml = new File(FileUtil.toSystemDependentName(VirtualFileUtil.urlToPath(myCustomWebXmlUrl)));
+				String devJarPath = myLibraryPathInfo.getDevJarPath();
+				assert devJarPath != null;
+				GwtWebXmlPatcher.patch(myModule, sourceWebXml, devJarPath, targetWebXml);
 			}
 			catch(IOException e)
 			{
 				LOG.info(e);
 			}
-			catch(JDOMException e)
+			catch(XMLStreamException e)
 			{
 				LOG.info(e);
 			}
 		}
 
 		final ExecutionResult result = super.execute(executor, runner);
-		result.getProcessHandler().addProcessListener(new ProcessAdapter()
-		{
-			@Override
-			public void processTerminated(final ProcessEvent event)
-			{
-				FileUtil.delete(outputDir);
-			}
-		});
-		return result;
-	}
-
-	private void patchWebXml(final File webXml) throws IOException, JDOMException
-	{
-		String devJarPath = myLibraryPathInfo.getDevJarPath();
-		assert devJarPath != null;
-		File devJar = new File(devJarPath);
-		if(!devJar.exists())
-		{
-			return;
-		}
-		ZipFile zipFile = new ZipFile(devJar);
-		try
+		if(!myKeepOutput)
 		{
-			ZipEntry zipEntry = zipFile.getEntry(WEB_XML_PATH);
-			InputStream input = zipFile.getInputStream(zipEntry);
-			Document document = JDOMUtil.loadDocument(input);
-
-			Document target = JDOMUtil.loadDocument(webXml);
-			final Element targetRoot = target.getRootElement();
-			ReadAction.run(() -> deleteGwtServlets(targetRoot));
-
-			//noinspection unchecked
-			for(Element child : (List<Element>) document.getRootElement().getChildren())
+			result.getProcessHandler().addProcessListener(new ProcessAdapter()
 			{
-				Element copy = (Element) child.clone();
-				copy.setNamespace(targetRoot.getNamespace());
-				//noinspection unchecked
-				for(Element grandChild : (List<Element>) copy.getChildren())
+				@Override
+				public void processTerminated(final ProcessEvent event)
 				{
-					grandChild.setNamespace(targetRoot.getNamespace());
+					GwtRunOutputCache.deleteInBackground(outputDir);
 				}
-				targetRoot.addContent(copy);
-			}
-			JDOMUtil.writeDocument(target, webXml, SystemProperties.getLineSeparator());
-		}
-		finally
-		{
-			zipFile.close();
+			});
 		}
+		return result;
 	}
 
-	private void deleteGwtServlets(final Element root)
+	/**
+	 * Launch parameters which affect generated and copied files, kept output is dropped when they change
+	 */
+	private String getOutputStamp()
 	{
-		JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(myModule.getProject());
-		GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(myModule);
-
-		List<Element> toRemove = new ArrayList<Element>();
-		Set<String> servletNamesToRemove = new HashSet<String>();
-
-		//noinspection unchecked
-		for(Element servlet : (List<Element>) root.getChildren("servlet", root.getNamespace()))
-		{
-			String className = servlet.getChildTextTrim("servlet-class", root.getNamespace());
-			if(className != null)
-			{
-				PsiClass psiClass = psiFacade.findClass(className, scope);
-				if(RemoteServiceUtil.isRemoteServiceImplementation(psiClass))
-				{
-					toRemove.add(servlet);
-					servletNamesToRemove.add(servlet.getChildTextTrim("servlet-name", root.getNamespace()));
-				}
-			}
-		}
-
-		//noinspection unchecked
-		for(Element mapping : ((List<Element>) root.getChildren("servlet-mapping", root.getNamespace())))
+		StringBuilder builder = new StringBuilder();
+		String devJarPath = myLibraryPathInfo.getDevJarPath();
+		if(devJarPath != null)
 		{
-			String servletName = mapping.getChildTextTrim("servlet-name", root.getNamespace());
-			if(servletNamesToRemove.contains(servletName))
-			{
-				toRemove.add(mapping);
-			}
+			File devJar = new File(devJarPath);
+			builder.append(devJarPath).append('|').append(devJar.length()).append('|').append(devJar.lastModified());
 		}
-
-		for(Element element : toRemove)
+		builder.append('|').append(myModuleExtension.getOutputStyle().getId());
+		builder.append('|').append(myShellParameters);
+		VirtualFile[] roots = ReadAction.compute(() -> ModuleRootManager.getInstance(myModule).orderEntries().recursively().sources().getRoots());
+		for(VirtualFile root : roots)
 		{
-			root.removeContent(element);
+			builder.append('|').append(root.getUrl());
 		}
+		return GwtDigestUtil.md5Hex(builder.toString());
 	}
 }
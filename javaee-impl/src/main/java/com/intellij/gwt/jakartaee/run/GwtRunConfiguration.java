@@ -55,6 +55,8 @@ public class GwtRunConfiguration extends ModuleBasedConfiguration<JavaRunConfigu
     public String SHELL_PARAMETERS = "";
     public String RUN_PAGE = "";
     public String CUSTOM_WEB_XML;
+    public boolean SUPER_DEV_MODE;
+    public boolean KEEP_OUTPUT;
 
     public GwtRunConfiguration(String name, Project project, GwtRunConfigurationFactory configurationFactory) {
         super(name, new JavaRunConfigurationModule(project, true), configurationFactory);
@@ -88,7 +90,8 @@ public class GwtRunConfiguration extends ModuleBasedConfiguration<JavaRunConfigu
             throw CantRunException.noJdkForModule(getModule());
         }
 
-        final JavaCommandLineState state = new GwtCommandLineState(extension, env, RUN_PAGE, VM_PARAMETERS, SHELL_PARAMETERS, CUSTOM_WEB_XML);
+        final JavaCommandLineState state = new GwtCommandLineState(extension, env, RUN_PAGE, VM_PARAMETERS, SHELL_PARAMETERS, CUSTOM_WEB_XML,
+            SUPER_DEV_MODE, KEEP_OUTPUT);
 
         state.setConsoleBuilder(TextConsoleBuilderFactory.getInstance().createBuilder(getProject()));
         return state;
@@ -16,6 +16,7 @@
 
 package com.intellij.gwt.jakartaee.run;
 
+import com.intellij.gwt.base.make.GwtCompilerPaths;
 import com.intellij.gwt.base.module.index.GwtHtmlFileIndex;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
@@ -64,8 +65,11 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
     private JLabel myHtmlToOpenLabel;
     private RawCommandLineEditor myVMParameters;
     private RawCommandLineEditor myGwtShellParameters;
+    private JCheckBox mySuperDevModeCheckBox;
+    private JCheckBox myKeepOutputCheckBox;
     private JCheckBox myPatchWebXmlCheckBox;
     private TextFieldWithBrowseButton myWebXmlField;
+    private JLabel mySuperDevModeHintLabel;
     private Project myProject;
     private GwtModulesManager myGwtModulesManager;
 
@@ -80,6 +84,8 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
     public void resetEditorFrom(GwtRunConfiguration configuration) {
         myVMParameters.setText(configuration.VM_PARAMETERS);
         myGwtShellParameters.setText(configuration.SHELL_PARAMETERS);
+        mySuperDevModeCheckBox.setSelected(configuration.SUPER_DEV_MODE);
+        myKeepOutputCheckBox.setSelected(configuration.KEEP_OUTPUT);
 
         myModulesModel.removeAllElements();
         for (Module module : configuration.getValidModules()) {
@@ -90,11 +96,11 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
 
         boolean customWebXml = configuration.CUSTOM_WEB_XML != null;
         myPatchWebXmlCheckBox.setSelected(customWebXml);
-        myWebXmlField.setEnabled(customWebXml);
         if (customWebXml) {
             setCustomWebXml(configuration.CUSTOM_WEB_XML);
         }
         updateWebXmlPanel(module);
+        updateSuperDevModeControls();
 
         fillPages(module);
         String pagePath = configuration.getPage();
@@ -168,6 +174,8 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
         configuration.setPage(path);
         configuration.VM_PARAMETERS = myVMParameters.getText();
         configuration.SHELL_PARAMETERS = myGwtShellParameters.getText();
+        configuration.SUPER_DEV_MODE = mySuperDevModeCheckBox.isSelected();
+        configuration.KEEP_OUTPUT = myKeepOutputCheckBox.isSelected();
         if (myPatchWebXmlCheckBox.isSelected()) {
             configuration.CUSTOM_WEB_XML = VirtualFileUtil.pathToUrl(FileUtil.toSystemIndependentName(myWebXmlField.getText()));
         }
@@ -194,7 +202,13 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
         myPatchWebXmlCheckBox.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(final ActionEvent e) {
-                myWebXmlField.setEnabled(myPatchWebXmlCheckBox.isSelected());
+                updateSuperDevModeControls();
+            }
+        });
+        mySuperDevModeCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                updateSuperDevModeControls();
             }
         });
         myWebXmlField.addBrowseFolderListener(null, null, myProject, createWebXmlChooserDescriptor());
@@ -216,6 +230,7 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
                 Module module = (Module) myModulesModel.getSelectedItem();
                 fillPages(module);
                 updateWebXmlPanel(module);
+                updateSuperDevModeControls();
             }
         });
 
@@ -243,6 +258,23 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
         myPatchWebXmlCheckBox.setVisible(visible);
     }
 
+    /**
+     * The code server neither uses the run output nor web.xml, so these settings are disabled in Super Dev Mode and the hint tells where the
+     * launcher script of the host page is written
+     */
+    private void updateSuperDevModeControls() {
+        boolean superDevMode = mySuperDevModeCheckBox.isSelected();
+        myKeepOutputCheckBox.setEnabled(!superDevMode);
+        myPatchWebXmlCheckBox.setEnabled(!superDevMode);
+        myWebXmlField.setEnabled(!superDevMode && myPatchWebXmlCheckBox.isSelected());
+
+        Module module = getSelectedModule();
+        mySuperDevModeHintLabel.setVisible(superDevMode && module != null);
+        if (module != null) {
+            mySuperDevModeHintLabel.setText(GwtLocalize.labelTextSuperDevModeHostPage(GwtCompilerPaths.getRunWebDirectory(module).getAbsolutePath()).get());
+        }
+    }
+
     private boolean updateWebXmlField(final @Nullable Module module) {
         if (module == null) {
             return false;
@@ -297,12 +329,12 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
      */
     private void $$$setupUI$$$() {
         myMainPanel = new JPanel();
-        myMainPanel.setLayout(new GridLayoutManager(7, 2, new Insets(0, 0, 0, 0), -1, -1));
+        myMainPanel.setLayout(new GridLayoutManager(10, 2, new Insets(0, 0, 0, 0), -1, -1));
         final JLabel label1 = new JLabel();
         this.$$$loadLabelText$$$(label1, GwtLocalize.labelChooseModuleText().get());
         myMainPanel.add(label1, new GridConstraints(0, 0, 1, 1, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_FIXED, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         final Spacer spacer1 = new Spacer();
-        myMainPanel.add(spacer1, new GridConstraints(6, 0, 1, 1, GridConstraints.ANCHOR_CENTER, GridConstraints.FILL_VERTICAL, 1, GridConstraints.SIZEPOLICY_WANT_GROW, null, null, null, 0, false));
+        myMainPanel.add(spacer1, new GridConstraints(9, 0, 1, 1, GridConstraints.ANCHOR_CENTER, GridConstraints.FILL_VERTICAL, 1, GridConstraints.SIZEPOLICY_WANT_GROW, null, null, null, 0, false));
         myModulesBox = new JComboBox();
         myMainPanel.add(myModulesBox, new GridConstraints(0, 1, 1, 1, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_HORIZONTAL, GridConstraints.SIZEPOLICY_CAN_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         myHtmlToOpenLabel = new JLabel();
@@ -320,11 +352,19 @@ public class GwtRunConfigurationEditor extends SettingsEditor<GwtRunConfiguratio
         myMainPanel.add(label3, new GridConstraints(3, 0, 1, 1, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_FIXED, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         myGwtShellParameters = new RawCommandLineEditor();
         myMainPanel.add(myGwtShellParameters, new GridConstraints(3, 1, 1, 1, GridConstraints.ANCHOR_CENTER, GridConstraints.FILL_HORIZONTAL, GridConstraints.SIZEPOLICY_CAN_SHRINK | GridConstraints.SIZEPOLICY_WANT_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
+        mySuperDevModeCheckBox = new JCheckBox();
+        this.$$$loadButtonText$$$(mySuperDevModeCheckBox, GwtLocalize.checkboxTextSuperDevMode().get());
+        myMainPanel.add(mySuperDevModeCheckBox, new GridConstraints(4, 0, 1, 2, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_CAN_SHRINK | GridConstraints.SIZEPOLICY_CAN_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
+        mySuperDevModeHintLabel = new JLabel();
+        myMainPanel.add(mySuperDevModeHintLabel, new GridConstraints(5, 0, 1, 2, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_FIXED, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
+        myKeepOutputCheckBox = new JCheckBox();
+        this.$$$loadButtonText$$$(myKeepOutputCheckBox, GwtLocalize.checkboxTextKeepRunOutput().get());
+        myMainPanel.add(myKeepOutputCheckBox, new GridConstraints(6, 0, 1, 2, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_CAN_SHRINK | GridConstraints.SIZEPOLICY_CAN_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         myPatchWebXmlCheckBox = new JCheckBox();
         this.$$$loadButtonText$$$(myPatchWebXmlCheckBox, GwtLocalize.checkboxTextUseCustomWebXml().get());
-        myMainPanel.add(myPatchWebXmlCheckBox, new GridConstraints(4, 0, 1, 2, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_CAN_SHRINK | GridConstraints.SIZEPOLICY_CAN_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
+        myMainPanel.add(myPatchWebXmlCheckBox, new GridConstraints(7, 0, 1, 2, GridConstraints.ANCHOR_WEST, GridConstraints.FILL_NONE, GridConstraints.SIZEPOLICY_CAN_SHRINK | GridConstraints.SIZEPOLICY_CAN_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         myWebXmlField = new TextFieldWithBrowseButton();
-        myMainPanel.add(myWebXmlField, new GridConstraints(5, 1, 1, 1, GridConstraints.ANCHOR_CENTER, GridConstraints.FILL_HORIZONTAL, GridConstraints.SIZEPOLICY_WANT_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
+        myMainPanel.add(myWebXmlField, new GridConstraints(8, 1, 1, 1, GridConstraints.ANCHOR_CENTER, GridConstraints.FILL_HORIZONTAL, GridConstraints.SIZEPOLICY_WANT_GROW, GridConstraints.SIZEPOLICY_FIXED, null, null, null, 0, false));
         label1.setLabelFor(myModulesBox);
     }
 
@@ -0,0 +1,165 @@
+package com.intellij.gwt.jakartaee.run;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.Application;
+import consulo.module.Module;
+import consulo.util.io.FileUtil;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.virtualFileSystem.util.VirtualFileUtil;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@code run/www} and {@code run/gen} directories of GWT run configurations between launches. Public resources copied into
+ * {@code www} are tracked by size and timestamp, so only stale copies are removed before the next launch; everything is dropped if the launch
+ * parameters (gwt-dev jar, style, shell parameters, source roots) change.
+ */
+class GwtRunOutputCache
+{
+	private static final int FORMAT_VERSION = 2;
+	@NonNls
+	private static final String STATE_FILE_NAME = ".gwt-run-state";
+	@NonNls
+	private static final String DELETED_SUFFIX = ".deleted.";
+
+	private GwtRunOutputCache()
+	{
+	}
+
+	/**
+	 * Removes artifacts which are stale for the launch described by {@code stamp} and {@code publicFiles}, and remembers the new state.
+	 *
+	 * @param publicFiles stamps of public resources by path relative to {@code wwwDir}
+	 */
+	static void invalidateStale(@Nonnull File runDir, @Nonnull File wwwDir, @Nonnull File genDir, @Nonnull String stamp,
+			@Nonnull Map<String, String> publicFiles)
+	{
+		GwtCacheFile stateFile = new GwtCacheFile(new File(runDir, STATE_FILE_NAME), FORMAT_VERSION);
+		Map<String, String> oldFiles = stateFile.read(stamp, GwtRunOutputCache::readFiles);
+		if(oldFiles == null)
+		{
+			deleteInBackground(wwwDir);
+			deleteInBackground(genDir);
+		}
+		else
+		{
+			for(Map.Entry<String, String> entry : oldFiles.entrySet())
+			{
+				if(!entry.getValue().equals(publicFiles.get(entry.getKey())))
+				{
+					FileUtil.delete(new File(wwwDir, entry.getKey()));
+				}
+			}
+		}
+		stateFile.write(stamp, output -> {
+			output.writeInt(publicFiles.size());
+			for(Map.Entry<String, String> entry : publicFiles.entrySet())
+			{
+				output.writeUTF(entry.getKey());
+				output.writeUTF(entry.getValue());
+			}
+		});
+	}
+
+	/**
+	 * @return stamps (size and timestamp) of public resources of GWT modules from the module by their path in the hosted mode output. File
+	 * contents are not read, so this is cheap even for modules with many resources.
+	 */
+	@Nonnull
+	@RequiredReadAction
+	static Map<String, String> collectPublicFiles(@Nonnull Module module)
+	{
+		final Map<String, String> result = new TreeMap<String, String>();
+		for(GwtModule gwtModule : GwtModulesManager.getInstance(module.getProject()).getGwtModules(module))
+		{
+			final String prefix = gwtModule.getQualifiedName() + "/";
+			for(final VirtualFile root : gwtModule.getPublicRoots())
+			{
+				VirtualFileUtil.processFilesRecursively(root, file -> {
+					if(!file.isDirectory())
+					{
+						String relativePath = VirtualFileUtil.getRelativePath(file, root, '/');
+						if(relativePath != null && !result.containsKey(prefix + relativePath))
+						{
+							result.put(prefix + relativePath, file.getLength() + ":" + file.getTimeStamp());
+						}
+					}
+					return true;
+				});
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Moves the directory out of the way and deletes it on a pooled thread. If the directory can't be moved it's deleted synchronously, a
+	 * background deletion could remove files which the next launch already writes into it.
+	 */
+	static void deleteInBackground(@Nonnull File dir)
+	{
+		if(!dir.exists())
+		{
+			return;
+		}
+
+		final File target = new File(dir.getParentFile(), dir.getName() + DELETED_SUFFIX + System.nanoTime());
+		if(dir.renameTo(target))
+		{
+			Application.get().executeOnPooledThread(() -> FileUtil.delete(target));
+		}
+		else
+		{
+			FileUtil.delete(dir);
+		}
+	}
+
+	/**
+	 * Deletes on a pooled thread the moved directories which weren't deleted because the IDE exited before the background deletion finished.
+	 */
+	static void deleteLeftovers(@Nonnull File... dirs)
+	{
+		final List<File> leftovers = new ArrayList<File>();
+		for(File dir : dirs)
+		{
+			final String prefix = dir.getName() + DELETED_SUFFIX;
+			File[] siblings = dir.getParentFile() != null ? dir.getParentFile().listFiles((parent, name) -> name.startsWith(prefix)) : null;
+			if(siblings != null)
+			{
+				Collections.addAll(leftovers, siblings);
+			}
+		}
+		if(!leftovers.isEmpty())
+		{
+			Application.get().executeOnPooledThread(() -> {
+				for(File leftover : leftovers)
+				{
+					FileUtil.delete(leftover);
+				}
+			});
+		}
+	}
+
+	private static Map<String, String> readFiles(DataInputStream input) throws IOException
+	{
+		Map<String, String> files = new HashMap<String, String>();
+		int count = input.readInt();
+		for(int i = 0; i < count; i++)
+		{
+			files.put(input.readUTF(), input.readUTF());
+		}
+		return files;
+	}
+}
@@ -0,0 +1,382 @@
+package com.intellij.gwt.jakartaee.run;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import com.intellij.gwt.base.rpc.RemoteServiceUtil;
+import com.intellij.gwt.base.util.GwtDigestUtil;
+import com.intellij.java.indexing.search.searches.ClassInheritorsSearch;
+import com.intellij.java.language.psi.JavaPsiFacade;
+import com.intellij.java.language.psi.PsiClass;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.ReadAction;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
+import consulo.gwt.base.module.extension.path.GwtSdkUtil;
+import consulo.language.psi.PsiModificationTracker;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.module.Module;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.Project;
+import consulo.util.dataholder.Key;
+import consulo.util.io.FilePermissionCopier;
+import consulo.util.io.FileUtil;
+import consulo.util.lang.StringUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import javax.xml.stream.*;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.EndElement;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.*;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Builds web.xml for hosted mode: servlets from the user web.xml except GWT RPC services (the shell serves them itself), followed by
+ * the entries of the web.xml bundled into gwt-dev.jar. Documents are merged with StAX and the result is cached by the content of the
+ * user web.xml, the gwt-dev jar and the set of RPC service implementations, so usually a launch only copies the cached file.
+ */
+class GwtWebXmlPatcher
+{
+	private static final int FORMAT_VERSION = 2;
+	@NonNls
+	private static final String CACHES_DIR_NAME = "web-xml";
+	@NonNls
+	private static final String DEV_WEB_XML_PATH = "com/google/gwt/dev/etc/tomcat/webapps/ROOT/WEB-INF/web.xml";
+	@NonNls
+	private static final String SERVLET = "servlet";
+	@NonNls
+	private static final String SERVLET_MAPPING = "servlet-mapping";
+	@NonNls
+	private static final String SERVLET_NAME = "servlet-name";
+	@NonNls
+	private static final String SERVLET_CLASS = "servlet-class";
+	@NonNls
+	private static final String ENCODING = "UTF-8";
+
+	private static final Key<CachedValue<Set<String>>> SERVICE_IMPLEMENTATIONS_KEY = Key.create("GWT_SERVICE_IMPLEMENTATIONS");
+
+	private GwtWebXmlPatcher()
+	{
+	}
+
+	/**
+	 * Writes patched {@code sourceWebXml} to {@code targetWebXml}. If gwt-dev.jar doesn't exist the source is copied as is.
+	 */
+	static void patch(@Nonnull Module module, @Nonnull File sourceWebXml, @Nonnull String devJarPath, @Nonnull File targetWebXml)
+			throws IOException, XMLStreamException
+	{
+		File devJar = new File(devJarPath);
+		if(!devJar.exists())
+		{
+			FileUtil.copy(sourceWebXml, targetWebXml, FilePermissionCopier.BY_NIO2);
+			return;
+		}
+
+		byte[] source = FileUtil.loadFileBytes(sourceWebXml);
+		Set<String> services = ReadAction.compute(() -> getServiceImplementations(module));
+		// hashed, the list of services can exceed the length limit of a string in the cache file
+		String key = GwtDigestUtil.md5Hex(GwtDigestUtil.md5Hex(source) + "|" + GwtSdkUtil.getJarReleaseVersion(devJarPath) + "|" +
+				devJar.length() + "|" + devJar.lastModified() + "|" + StringUtil.join(services, ","));
+
+		GwtCacheFile cacheFile = GwtCacheFile.forName(CACHES_DIR_NAME, GwtDigestUtil.md5Hex(sourceWebXml.getAbsolutePath()), FORMAT_VERSION);
+		byte[] patched = cacheFile.read(key, input -> {
+			byte[] content = new byte[input.readInt()];
+			input.readFully(content);
+			return content;
+		});
+		if(patched == null)
+		{
+			byte[] devWebXml = loadDevWebXml(devJar);
+			if(devWebXml == null)
+			{
+				FileUtil.copy(sourceWebXml, targetWebXml, FilePermissionCopier.BY_NIO2);
+				return;
+			}
+			byte[] merged = merge(source, devWebXml, services);
+			cacheFile.write(key, output -> {
+				output.writeInt(merged.length);
+				output.write(merged);
+			});
+			patched = merged;
+		}
+		FileUtil.writeToFile(targetWebXml, patched);
+	}
+
+	/**
+	 * @return qualified names of RemoteServiceServlet subclasses visible from the module, sorted
+	 */
+	@Nonnull
+	@RequiredReadAction
+	private static Set<String> getServiceImplementations(@Nonnull final Module module)
+	{
+		CachedValue<Set<String>> value = module.getUserData(SERVICE_IMPLEMENTATIONS_KEY);
+		if(value == null)
+		{
+			final Project project = module.getProject();
+			value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<Set<String>>()
+			{
+				@Override
+				public Result<Set<String>> compute()
+				{
+					Set<String> result = new TreeSet<String>();
+					GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module);
+					PsiClass servlet = JavaPsiFacade.getInstance(project).findClass(RemoteServiceUtil.REMOTE_SERVICE_SERVLET_NAME, scope);
+					if(servlet != null)
+					{
+						for(PsiClass inheritor : ClassInheritorsSearch.search(servlet, scope, true).findAll())
+						{
+							String qualifiedName = inheritor.getQualifiedName();
+							if(!inheritor.isInterface() && qualifiedName != null)
+							{
+								result.add(qualifiedName);
+							}
+						}
+					}
+					return Result.create(Collections.unmodifiableSet(result), PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+							ProjectRootManager.getInstance(project));
+				}
+			}, false);
+			module.putUserData(SERVICE_IMPLEMENTATIONS_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	@Nonnull
+	private static byte[] merge(@Nonnull byte[] source, @Nonnull byte[] devWebXml, @Nonnull Set<String> services) throws XMLStreamException
+	{
+		XMLInputFactory inputFactory = createInputFactory();
+		Set<String> removedNames = collectServletNames(inputFactory, source, services);
+
+		XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+		ByteArrayOutputStream output = new ByteArrayOutputStream(source.length + devWebXml.length);
+		XMLEventWriter writer = XMLOutputFactory.newInstance().createXMLEventWriter(output, ENCODING);
+		XMLEventReader reader = inputFactory.createXMLEventReader(new ByteArrayInputStream(source));
+		try
+		{
+			StartElement root = null;
+			List<XMLEvent> buffer = null;
+			StringBuilder servletName = null;
+			boolean inServletName = false;
+			int depth = 0;
+			while(reader.hasNext())
+			{
+				XMLEvent event = reader.nextEvent();
+				if(event.isStartDocument())
+				{
+					String version = ((StartDocument) event).getVersion();
+					writer.add(eventFactory.createStartDocument(ENCODING, version != null ? version : "1.0"));
+					writer.add(eventFactory.createCharacters("\n"));
+					continue;
+				}
+				if(event.getEventType() == XMLStreamConstants.DTD)
+				{
+					writer.add(event);
+					writer.add(eventFactory.createCharacters("\n"));
+					continue;
+				}
+
+				if(event.isStartElement())
+				{
+					depth++;
+					StartElement element = event.asStartElement();
+					if(depth == 1)
+					{
+						root = element;
+					}
+					else if(depth == 2 && isServletElement(element))
+					{
+						buffer = new ArrayList<XMLEvent>();
+						servletName = new StringBuilder();
+					}
+					else if(depth == 3 && buffer != null)
+					{
+						inServletName = SERVLET_NAME.equals(element.getName().getLocalPart());
+					}
+				}
+				else if(event.isCharacters() && inServletName)
+				{
+					servletName.append(event.asCharacters().getData());
+				}
+				else if(event.isEndElement())
+				{
+					depth--;
+					inServletName = false;
+					if(depth == 0 && root != null)
+					{
+						copyRootContent(inputFactory, eventFactory, devWebXml, root, writer);
+					}
+					else if(depth == 1 && buffer != null)
+					{
+						buffer.add(event);
+						if(!removedNames.contains(servletName.toString().trim()))
+						{
+							for(XMLEvent bufferedEvent : buffer)
+							{
+								writer.add(bufferedEvent);
+							}
+						}
+						buffer = null;
+						continue;
+					}
+				}
+
+				if(buffer != null)
+				{
+					buffer.add(event);
+				}
+				else
+				{
+					writer.add(event);
+				}
+			}
+			writer.flush();
+		}
+		finally
+		{
+			reader.close();
+			writer.close();
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * First pass over the user web.xml: names of servlets whose class is a GWT RPC service implementation.
+	 */
+	private static Set<String> collectServletNames(XMLInputFactory inputFactory, byte[] source, Set<String> services) throws XMLStreamException
+	{
+		Set<String> result = new HashSet<String>();
+		if(services.isEmpty())
+		{
+			return result;
+		}
+
+		XMLStreamReader reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(source));
+		try
+		{
+			int depth = 0;
+			String servletName = null;
+			String servletClass = null;
+			while(reader.hasNext())
+			{
+				int event = reader.next();
+				if(event == XMLStreamConstants.START_ELEMENT)
+				{
+					depth++;
+					String name = reader.getLocalName();
+					if(depth == 3 && SERVLET_NAME.equals(name))
+					{
+						servletName = reader.getElementText().trim();
+						depth--;
+					}
+					else if(depth == 3 && SERVLET_CLASS.equals(name))
+					{
+						servletClass = reader.getElementText().trim();
+						depth--;
+					}
+				}
+				else if(event == XMLStreamConstants.END_ELEMENT)
+				{
+					depth--;
+					if(depth == 1 && SERVLET.equals(reader.getLocalName()))
+					{
+						if(servletName != null && servletClass != null && services.contains(servletClass))
+						{
+							result.add(servletName);
+						}
+						servletName = null;
+						servletClass = null;
+					}
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Appends children of the gwt-dev web.xml root, moving their elements into the namespace of the user web.xml root.
+	 */
+	private static void copyRootContent(XMLInputFactory inputFactory, XMLEventFactory eventFactory, byte[] devWebXml, StartElement targetRoot,
+			XMLEventWriter writer) throws XMLStreamException
+	{
+		String prefix = targetRoot.getName().getPrefix();
+		String namespace = targetRoot.getName().getNamespaceURI();
+		XMLEventReader reader = inputFactory.createXMLEventReader(new ByteArrayInputStream(devWebXml));
+		try
+		{
+			int depth = 0;
+			while(reader.hasNext())
+			{
+				XMLEvent event = reader.nextEvent();
+				if(event.isStartElement())
+				{
+					depth++;
+					if(depth > 1)
+					{
+						StartElement element = event.asStartElement();
+						//noinspection unchecked
+						Iterator<Attribute> attributes = element.getAttributes();
+						writer.add(eventFactory.createStartElement(prefix, namespace, element.getName().getLocalPart(), attributes, null));
+					}
+				}
+				else if(event.isEndElement())
+				{
+					depth--;
+					if(depth > 0)
+					{
+						EndElement element = event.asEndElement();
+						writer.add(eventFactory.createEndElement(prefix, namespace, element.getName().getLocalPart()));
+					}
+				}
+				else if(depth > 0 && (event.isCharacters() || event.getEventType() == XMLStreamConstants.COMMENT))
+				{
+					writer.add(event);
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	private static boolean isServletElement(StartElement element)
+	{
+		String name = element.getName().getLocalPart();
+		return SERVLET.equals(name) || SERVLET_MAPPING.equals(name);
+	}
+
+	private static XMLInputFactory createInputFactory()
+	{
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	@Nullable
+	private static byte[] loadDevWebXml(File devJar) throws IOException
+	{
+		try (ZipFile zipFile = new ZipFile(devJar))
+		{
+			ZipEntry entry = zipFile.getEntry(DEV_WEB_XML_PATH);
+			if(entry == null)
+			{
+				return null;
+			}
+			try (InputStream input = zipFile.getInputStream(entry))
+			{
+				return FileUtil.loadBytes(input);
+			}
+		}
+	}
+}
@@ -9,6 +9,7 @@ module com.intellij.gwt.jakartaee.impl
 	requires transitive consulo.jakartaee.web.api;
 	requires transitive consulo.java.execution.api;
 	requires consulo.java;
+	requires java.xml;
 
 	// TODO remove in future
 	requires java.desktop;
@@ -0,0 +1,110 @@
+package com.intellij.gwt.impl.inspections;
+
+import com.intellij.java.language.JavaLanguage;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.application.Application;
+import consulo.application.progress.EmptyProgressIndicator;
+import consulo.application.progress.ProgressIndicator;
+import consulo.application.progress.ProgressManager;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.language.Language;
+import consulo.language.editor.inspection.GlobalInspectionContext;
+import consulo.language.editor.inspection.GlobalInspectionTool;
+import consulo.language.editor.inspection.ProblemDescriptionsProcessor;
+import consulo.language.editor.inspection.ProblemDescriptor;
+import consulo.language.editor.inspection.reference.RefElement;
+import consulo.language.editor.inspection.scheme.InspectionManager;
+import consulo.language.editor.rawHighlight.HighlightDisplayLevel;
+import consulo.language.editor.scope.AnalysisScope;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiManager;
+import consulo.localize.LocalizeValue;
+import consulo.project.Project;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs client code inspections over all GWT client sources of the scope at once, see {@link GwtClientCodeValidator}.
+ */
+@ExtensionImpl
+public class GwtClientCodeValidationInspection extends GlobalInspectionTool {
+    @Override
+    public void runInspection(@Nonnull AnalysisScope scope,
+                              @Nonnull InspectionManager manager,
+                              @Nonnull final GlobalInspectionContext globalContext,
+                              @Nonnull final ProblemDescriptionsProcessor problemDescriptionsProcessor,
+                              Object state) {
+        Project project = globalContext.getProject();
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        if (indicator == null) {
+            indicator = new EmptyProgressIndicator();
+        }
+
+        GwtClientCodeValidator validator = new GwtClientCodeValidator(project, GwtClientCodeValidator.createClientCodeInspections());
+        validator.buildTables(indicator);
+
+        List<VirtualFile> files = new ArrayList<VirtualFile>();
+        for (VirtualFile file : validator.getClientFiles().keySet()) {
+            if (scope.contains(file)) {
+                files.add(file);
+            }
+        }
+
+        final PsiManager psiManager = PsiManager.getInstance(project);
+        validator.validate(files, indicator, result -> {
+            ProblemDescriptor[] problems = result.getAllProblems();
+            if (problems.length == 0) {
+                return;
+            }
+
+            Application.get().runReadAction(() -> {
+                PsiFile psiFile = psiManager.findFile(result.getFile());
+                RefElement refElement = psiFile != null ? globalContext.getRefManager().getReference(psiFile) : null;
+                if (refElement != null) {
+                    synchronized (problemDescriptionsProcessor) {
+                        problemDescriptionsProcessor.addProblemElement(refElement, problems);
+                    }
+                }
+            });
+        });
+    }
+
+    @Nullable
+    @Override
+    public Language getLanguage() {
+        return JavaLanguage.INSTANCE;
+    }
+
+    @Nonnull
+    @Override
+    public LocalizeValue getGroupDisplayName() {
+        return GwtLocalize.groupGwtInspectionsName();
+    }
+
+    @Nonnull
+    @Override
+    public LocalizeValue getDisplayName() {
+        return GwtLocalize.inspectionNameGwtClientCodeValidation();
+    }
+
+    @Nonnull
+    @Override
+    public String getShortName() {
+        return "GwtClientCodeValidation";
+    }
+
+    @Nonnull
+    @Override
+    public HighlightDisplayLevel getDefaultLevel() {
+        return HighlightDisplayLevel.WARNING;
+    }
+
+    @Override
+    public boolean isEnabledByDefault() {
+        return false;
+    }
+}
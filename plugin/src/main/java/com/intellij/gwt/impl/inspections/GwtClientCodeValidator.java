@@ -0,0 +1,398 @@
+package com.intellij.gwt.impl.inspections;
+
+import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.inspections.GwtClientCodeContext;
+import com.intellij.gwt.base.rpc.RemoteServiceUtil;
+import com.intellij.gwt.base.util.GwtDigestUtil;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import com.intellij.java.indexing.search.searches.ClassInheritorsSearch;
+import com.intellij.java.language.impl.JavaFileType;
+import com.intellij.java.language.psi.JavaPsiFacade;
+import com.intellij.java.language.psi.PsiClass;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.Application;
+import consulo.application.concurrent.JobLauncher;
+import consulo.application.progress.ProcessCanceledException;
+import consulo.application.progress.ProgressIndicator;
+import consulo.gwt.base.module.extension.path.GwtJreEmulationCatalog;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.language.editor.inspection.ProblemDescriptor;
+import consulo.language.editor.inspection.scheme.InspectionManager;
+import consulo.language.editor.inspection.scheme.InspectionProfile;
+import consulo.language.editor.inspection.scheme.InspectionProjectProfileManager;
+import consulo.language.editor.inspection.scheme.InspectionToolWrapper;
+import consulo.language.editor.rawHighlight.HighlightDisplayKey;
+import consulo.language.editor.rawHighlight.HighlightDisplayLevel;
+import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiManager;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.util.PsiTreeUtil;
+import consulo.module.Module;
+import consulo.module.ModuleManager;
+import consulo.module.content.ProjectFileIndex;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.Project;
+import consulo.util.jdom.JDOMUtil;
+import consulo.util.xml.serializer.XmlSerializer;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Whole-project validation of GWT client code. Project-wide tables (client source files with their owning GWT modules, inherited modules,
+ * JRE emulation catalogs and RPC service pairs) are built once and passed to the inspections as {@link GwtClientCodeContext}, then client
+ * files are checked in parallel chunks, each chunk under a single read action. Enabled state, severity and options of the inspections are
+ * taken from the current inspection profile.
+ */
+public class GwtClientCodeValidator {
+    private static final int CHUNK_SIZE = 32;
+
+    private final Project myProject;
+    private final List<BaseGwtInspection> myInspections;
+    private final Map<BaseGwtInspection, Object> myDefaultStates = new HashMap<BaseGwtInspection, Object>();
+    private final Tables myTables;
+
+    public GwtClientCodeValidator(@Nonnull Project project, @Nonnull List<? extends BaseGwtInspection> inspections) {
+        myProject = project;
+        myInspections = new ArrayList<BaseGwtInspection>(inspections);
+        myTables = new Tables(project);
+        for (BaseGwtInspection inspection : myInspections) {
+            myDefaultStates.put(inspection, inspection.createStateProvider().getState());
+        }
+    }
+
+    /**
+     * Inspections checking client code rules: JRE emulation and inherited modules, serializability and async interfaces consistency.
+     */
+    @Nonnull
+    public static List<BaseGwtInspection> createClientCodeInspections() {
+        return Arrays.<BaseGwtInspection>asList(
+            new NonJREEmulationClassesInClientCodeInspection(),
+            new GwtInconsistentAsyncInterfaceInspection(),
+            new GwtNonSerializableRemoteServiceMethodParametersInspection(),
+            new GwtInconsistentSerializableClassInspection()
+        );
+    }
+
+    @Nonnull
+    public List<BaseGwtInspection> getInspections() {
+        return myInspections;
+    }
+
+    /**
+     * @return hash of enabled state, severity and options of every inspection in the current inspection profile; results computed with
+     * another signature must not be reused
+     */
+    @Nonnull
+    public String getInspectionsSignature() {
+        InspectionProfile profile = InspectionProjectProfileManager.getInstance(myProject).getInspectionProfile();
+        StringBuilder builder = new StringBuilder();
+        for (BaseGwtInspection inspection : myInspections) {
+            HighlightDisplayKey key = HighlightDisplayKey.find(inspection.getShortName());
+            InspectionToolWrapper<?> wrapper = key != null ? profile.getInspectionTool(inspection.getShortName(), (PsiElement) null) : null;
+            Object state = wrapper != null ? wrapper.getState() : myDefaultStates.get(inspection);
+            builder.append(inspection.getShortName()).append('|');
+            builder.append(key != null ? profile.isToolEnabled(key, null) : inspection.isEnabledByDefault()).append('|');
+            builder.append(key != null ? profile.getErrorLevel(key, null) : inspection.getDefaultLevel()).append('|');
+            builder.append(serializeState(state)).append('\n');
+        }
+        return GwtDigestUtil.md5Hex(builder.toString());
+    }
+
+    @Nonnull
+    private static String serializeState(@Nullable Object state) {
+        if (state == null) {
+            return "";
+        }
+        try {
+            return JDOMUtil.writeElement(XmlSerializer.serialize(state));
+        }
+        catch (RuntimeException e) {
+            return state.getClass().getName() + "@" + state;
+        }
+    }
+
+    /**
+     * Builds project-wide tables. Must be called before {@link #validate}.
+     */
+    public void buildTables(@Nonnull ProgressIndicator indicator) {
+        Application.get().runReadAction(() -> {
+            collectClientFiles(indicator);
+            collectServices(indicator);
+        });
+    }
+
+    /**
+     * @return client source files of all GWT modules found by {@link #buildTables}
+     */
+    @Nonnull
+    public Map<VirtualFile, List<GwtModule>> getClientFiles() {
+        return Collections.unmodifiableMap(myTables.myClientFiles);
+    }
+
+    @RequiredReadAction
+    private void collectClientFiles(ProgressIndicator indicator) {
+        GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+        final ProjectFileIndex fileIndex = ProjectRootManager.getInstance(myProject).getFileIndex();
+
+        for (Module module : ModuleManager.getInstance(myProject).getModules()) {
+            GoogleGwtModuleExtension<?> extension = module.getExtension(GoogleGwtModuleExtension.class);
+            if (extension == null) {
+                continue;
+            }
+
+            indicator.checkCanceled();
+            indicator.setText2(module.getName());
+            myTables.myCatalogs.put(extension, Optional.ofNullable(GwtClientCodeContext.findJreEmulationCatalog(extension)));
+
+            for (final GwtModule gwtModule : gwtModulesManager.getGwtModules(module)) {
+                myTables.myInheritedModules.put(gwtModule, gwtModulesManager.getInheritedModules(gwtModule));
+                for (VirtualFile sourceRoot : gwtModule.getSourceRoots()) {
+                    fileIndex.iterateContentUnderDirectory(sourceRoot, file -> {
+                        if (!file.isDirectory() && file.getFileType() == JavaFileType.INSTANCE) {
+                            List<GwtModule> modules = myTables.myClientFiles.get(file);
+                            if (modules == null) {
+                                modules = new ArrayList<GwtModule>(1);
+                                myTables.myClientFiles.put(file, modules);
+                            }
+                            if (!modules.contains(gwtModule)) {
+                                modules.add(gwtModule);
+                            }
+                        }
+                        return true;
+                    });
+                }
+            }
+        }
+    }
+
+    @RequiredReadAction
+    private void collectServices(ProgressIndicator indicator) {
+        PsiClass remoteService = JavaPsiFacade.getInstance(myProject).findClass(RemoteServiceUtil.REMOTE_SERVICE_INTERFACE_NAME,
+            GlobalSearchScope.allScope(myProject));
+        if (remoteService == null) {
+            return;
+        }
+
+        for (PsiClass service : ClassInheritorsSearch.search(remoteService, myTables.myScope, true).findAll()) {
+            indicator.checkCanceled();
+            if (service.isInterface()) {
+                PsiClass async = RemoteServiceUtil.findAsynchronousInterface(service);
+                myTables.myServices.put(service, Optional.ofNullable(async));
+                if (async != null) {
+                    myTables.mySynchronousInterfaces.put(async, service);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the files by all inspections on the shared job pool, each chunk of files in its own read action. {@code consumer} is called from
+     * worker threads.
+     */
+    public void validate(@Nonnull List<VirtualFile> files, @Nonnull ProgressIndicator indicator, @Nonnull Consumer<FileResult> consumer) {
+        if (files.isEmpty()) {
+            return;
+        }
+
+        List<int[]> chunks = new ArrayList<int[]>();
+        for (int from = 0; from < files.size(); from += CHUNK_SIZE) {
+            chunks.add(new int[]{from, Math.min(files.size(), from + CHUNK_SIZE)});
+        }
+
+        boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(chunks, indicator, chunk -> {
+            Application.get().runReadAction(() -> processChunk(files, chunk[0], chunk[1], indicator, consumer));
+            return true;
+        });
+        if (!completed) {
+            throw new ProcessCanceledException();
+        }
+    }
+
+    @RequiredReadAction
+    private void processChunk(List<VirtualFile> files, int from, int to, ProgressIndicator indicator, Consumer<FileResult> consumer) {
+        PsiManager psiManager = PsiManager.getInstance(myProject);
+        InspectionManager manager = InspectionManager.getInstance(myProject);
+        InspectionProfile profile = InspectionProjectProfileManager.getInstance(myProject).getInspectionProfile();
+        for (int i = from; i < to; i++) {
+            indicator.checkCanceled();
+            VirtualFile file = files.get(i);
+            if (!file.isValid()) {
+                continue;
+            }
+
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile == null) {
+                continue;
+            }
+
+            FileResult result = new FileResult(file);
+            for (BaseGwtInspection inspection : myInspections) {
+                HighlightDisplayKey key = HighlightDisplayKey.find(inspection.getShortName());
+                if (key != null ? !profile.isToolEnabled(key, psiFile) : !inspection.isEnabledByDefault()) {
+                    continue;
+                }
+
+                InspectionToolWrapper<?> wrapper = key != null ? profile.getInspectionTool(inspection.getShortName(), psiFile) : null;
+                Object state = wrapper != null ? wrapper.getState() : myDefaultStates.get(inspection);
+                HighlightDisplayLevel level = key != null ? profile.getErrorLevel(key, psiFile) : inspection.getDefaultLevel();
+
+                long start = System.nanoTime();
+                ProblemDescriptor[] problems = runInspection(inspection, state, psiFile, manager, myTables);
+                result.add(inspection.getShortName(), problems, level, System.nanoTime() - start);
+            }
+            consumer.accept(result);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @RequiredReadAction
+    @Nonnull
+    private static ProblemDescriptor[] runInspection(BaseGwtInspection inspection, Object state, PsiFile file, InspectionManager manager,
+                                                     GwtClientCodeContext context) {
+        List<ProblemDescriptor> problems = new ArrayList<ProblemDescriptor>();
+        addAll(problems, inspection.checkFile(file, manager, false, state, context));
+        for (PsiClass aClass : PsiTreeUtil.findChildrenOfType(file, PsiClass.class)) {
+            addAll(problems, inspection.checkClass(aClass, manager, false, state, context));
+        }
+        return problems.toArray(new ProblemDescriptor[problems.size()]);
+    }
+
+    private static void addAll(List<ProblemDescriptor> result, @Nullable ProblemDescriptor[] problems) {
+        if (problems != null) {
+            Collections.addAll(result, problems);
+        }
+    }
+
+    public static class FileResult {
+        private final VirtualFile myFile;
+        private final Map<String, ProblemDescriptor[]> myProblems = new LinkedHashMap<String, ProblemDescriptor[]>();
+        private final Map<String, HighlightDisplayLevel> myLevels = new LinkedHashMap<String, HighlightDisplayLevel>();
+        private final Map<String, Long> myTimes = new LinkedHashMap<String, Long>();
+
+        private FileResult(VirtualFile file) {
+            myFile = file;
+        }
+
+        private void add(String inspectionName, ProblemDescriptor[] problems, HighlightDisplayLevel level, long nanos) {
+            myProblems.put(inspectionName, problems);
+            myLevels.put(inspectionName, level);
+            myTimes.put(inspectionName, nanos);
+        }
+
+        @Nonnull
+        public VirtualFile getFile() {
+            return myFile;
+        }
+
+        /**
+         * @return problems by inspection short name
+         */
+        @Nonnull
+        public Map<String, ProblemDescriptor[]> getProblems() {
+            return myProblems;
+        }
+
+        /**
+         * @return severity of each inspection in the current profile for the file, by inspection short name
+         */
+        @Nonnull
+        public Map<String, HighlightDisplayLevel> getLevels() {
+            return myLevels;
+        }
+
+        /**
+         * @return time spent in each inspection in nanoseconds, by inspection short name
+         */
+        @Nonnull
+        public Map<String, Long> getTimes() {
+            return myTimes;
+        }
+
+        @Nonnull
+        public ProblemDescriptor[] getAllProblems() {
+            List<ProblemDescriptor> result = new ArrayList<ProblemDescriptor>();
+            for (ProblemDescriptor[] problems : myProblems.values()) {
+                Collections.addAll(result, problems);
+            }
+            return result.toArray(new ProblemDescriptor[result.size()]);
+        }
+    }
+
+    /**
+     * Lookups answered from the tables built by {@link #buildTables}, files, modules and classes not covered by them are delegated to the
+     * on-demand implementation.
+     */
+    private static class Tables extends GwtClientCodeContext {
+        private final GlobalSearchScope myScope;
+        private final Map<VirtualFile, List<GwtModule>> myClientFiles = new LinkedHashMap<VirtualFile, List<GwtModule>>();
+        private final Map<GwtModule, Set<GwtModule>> myInheritedModules = new HashMap<GwtModule, Set<GwtModule>>();
+        private final Map<GoogleGwtModuleExtension<?>, Optional<GwtJreEmulationCatalog>> myCatalogs =
+            new HashMap<GoogleGwtModuleExtension<?>, Optional<GwtJreEmulationCatalog>>();
+        private final Map<PsiClass, Optional<PsiClass>> myServices = new HashMap<PsiClass, Optional<PsiClass>>();
+        private final Map<PsiClass, PsiClass> mySynchronousInterfaces = new HashMap<PsiClass, PsiClass>();
+
+        private Tables(@Nonnull Project project) {
+            super(project);
+            myScope = GlobalSearchScope.projectScope(project);
+        }
+
+        @Nonnull
+        @Override
+        public List<GwtModule> findGwtModulesByClientSourceFile(@Nonnull VirtualFile file) {
+            List<GwtModule> modules = myClientFiles.get(file);
+            return modules != null ? modules : super.findGwtModulesByClientSourceFile(file);
+        }
+
+        @Override
+        public boolean isInheritedOrSelf(@Nonnull GwtModule gwtModule, @Nonnull List<GwtModule> referencedModules) {
+            Set<GwtModule> inherited = myInheritedModules.get(gwtModule);
+            if (inherited == null) {
+                return super.isInheritedOrSelf(gwtModule, referencedModules);
+            }
+            for (GwtModule referencedModule : referencedModules) {
+                if (inherited.contains(referencedModule)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public GwtJreEmulationCatalog getJreEmulationCatalog(@Nonnull GoogleGwtModuleExtension<?> extension) {
+            Optional<GwtJreEmulationCatalog> catalog = myCatalogs.get(extension);
+            return catalog != null ? catalog.orElse(null) : super.getJreEmulationCatalog(extension);
+        }
+
+        @Override
+        public boolean isRemoteServiceInterface(@Nonnull PsiClass aClass) {
+            return isInProject(aClass) ? myServices.containsKey(aClass) : super.isRemoteServiceInterface(aClass);
+        }
+
+        @Nullable
+        @Override
+        public PsiClass findAsynchronousInterface(@Nonnull PsiClass service) {
+            Optional<PsiClass> async = myServices.get(service);
+            return async != null ? async.orElse(null) : super.findAsynchronousInterface(service);
+        }
+
+        @Nullable
+        @Override
+        public PsiClass findSynchronousInterface(@Nonnull PsiClass async) {
+            PsiClass sync = mySynchronousInterfaces.get(async);
+            return sync != null || isInProject(async) ? sync : super.findSynchronousInterface(async);
+        }
+
+        private boolean isInProject(PsiClass aClass) {
+            PsiFile file = aClass.getContainingFile();
+            VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+            return virtualFile != null && myScope.contains(virtualFile);
+        }
+    }
+}
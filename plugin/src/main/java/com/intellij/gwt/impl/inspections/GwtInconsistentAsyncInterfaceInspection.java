@@ -17,6 +17,7 @@
 package com.intellij.gwt.impl.inspections;
 
 import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.inspections.GwtClientCodeContext;
 import com.intellij.gwt.base.rpc.RemoteServiceUtil;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.language.psi.*;
@@ -36,7 +37,6 @@ import consulo.language.editor.inspection.scheme.InspectionManager;
 import consulo.language.psi.PsiDirectory;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiFileFactory;
-import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.language.util.IncorrectOperationException;
 import consulo.localize.LocalizeValue;
 import consulo.logging.Logger;
@@ -65,17 +65,18 @@ public class GwtInconsistentAsyncInterfaceInspection extends BaseGwtInspection {
                                               @Nonnull final PsiClass aClass,
                                               @Nonnull InspectionManager manager,
                                               boolean isOnTheFly,
-                                              Object state) {
+                                              Object state,
+                                              @Nonnull GwtClientCodeContext context) {
         GoogleGwtModuleExtension gwtFacet = getExtension(aClass);
         if (gwtFacet == null) {
             return null;
         }
 
-        if (RemoteServiceUtil.isRemoteServiceInterface(aClass)) {
-            return checkRemoteServiceForAsync(aClass, version, manager);
+        if (context.isRemoteServiceInterface(aClass)) {
+            return checkRemoteServiceForAsync(aClass, version, manager, context);
         }
 
-        final PsiClass synch = RemoteServiceUtil.findSynchronousInterface(aClass);
+        final PsiClass synch = context.findSynchronousInterface(aClass);
         if (synch != null) {
             return checkAsyncServiceForRemote(synch, aClass, version, manager);
         }
@@ -117,12 +118,9 @@ public class GwtInconsistentAsyncInterfaceInspection extends BaseGwtInspection {
         return problems.toArray(new ProblemDescriptor[problems.size()]);
     }
 
-    private static ProblemDescriptor[] checkRemoteServiceForAsync(PsiClass aClass, final GwtVersion gwtVersion, InspectionManager manager) {
-        GlobalSearchScope scope = aClass.getResolveScope();
-
-
-        final PsiClass async = JavaPsiFacade.getInstance(manager.getProject()).findClass(aClass.getQualifiedName() + RemoteServiceUtil.ASYNC_SUFFIX,
-            scope);
+    private static ProblemDescriptor[] checkRemoteServiceForAsync(PsiClass aClass, final GwtVersion gwtVersion, InspectionManager manager,
+                                                                  GwtClientCodeContext context) {
+        final PsiClass async = context.findAsynchronousInterface(aClass);
         if (async == null) {
             final String description = GwtLocalize.problemDescriptionRemoteService0DoesnTHaveCorrespondingAsyncVariant(aClass.getName()).get();
             return new ProblemDescriptor[]{
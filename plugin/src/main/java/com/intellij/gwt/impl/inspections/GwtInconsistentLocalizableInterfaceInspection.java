@@ -78,7 +78,7 @@ public class GwtInconsistentLocalizableInterfaceInspection extends BaseGwtInspec
 
     @Override
     @Nullable
-    public ProblemDescriptor[] checkFile(@Nonnull PsiFile file, @Nonnull InspectionManager manager, boolean isOnTheFly, Object state) {
+    public ProblemDescriptor[] checkFileImpl(@Nonnull PsiFile file, @Nonnull InspectionManager manager, boolean isOnTheFly, Object state) {
         GoogleGwtModuleExtension extension = getExtension(file);
         if (extension == null) {
             return null;
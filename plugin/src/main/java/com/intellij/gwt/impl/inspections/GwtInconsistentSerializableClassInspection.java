@@ -17,8 +17,8 @@
 package com.intellij.gwt.impl.inspections;
 
 import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.inspections.GwtClientCodeContext;
 import com.intellij.gwt.impl.rpc.GwtSerializableUtil;
-import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.language.psi.*;
@@ -73,7 +73,9 @@ public class GwtInconsistentSerializableClassInspection extends BaseGwtInspectio
                                               @Nonnull GwtVersion version,
                                               @Nonnull PsiClass aClass,
                                               @Nonnull InspectionManager manager,
-                                              boolean isOnTheFly, Object state) {
+                                              boolean isOnTheFly,
+                                              Object state,
+                                              @Nonnull GwtClientCodeContext context) {
         PsiFile containingFile = aClass.getContainingFile();
         if (containingFile == null) {
             return null;
@@ -82,7 +84,7 @@ public class GwtInconsistentSerializableClassInspection extends BaseGwtInspectio
         if (virtualFile == null) {
             return null;
         }
-        List<GwtModule> gwtModules = GwtModulesManager.getInstance(manager.getProject()).findGwtModulesByClientSourceFile(virtualFile);
+        List<GwtModule> gwtModules = context.findGwtModulesByClientSourceFile(virtualFile);
         if (gwtModules.isEmpty()) {
             return null;
         }
@@ -102,7 +102,7 @@ public class GwtMethodWithParametersInConstantsInterfaceInspection extends BaseG
     }
 
     @Override
-    public ProblemDescriptor[] checkFile(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
+    public ProblemDescriptor[] checkFileImpl(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
         if (!shouldCheck(file) || !(file instanceof PropertiesFile)) {
             return null;
         }
@@ -17,8 +17,8 @@
 package com.intellij.gwt.impl.inspections;
 
 import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.inspections.GwtClientCodeContext;
 import com.intellij.gwt.base.rpc.GwtGenericsUtil;
-import com.intellij.gwt.base.rpc.RemoteServiceUtil;
 import com.intellij.gwt.impl.rpc.GwtSerializableUtil;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.analysis.codeInsight.intention.QuickFixFactory;
@@ -45,6 +45,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -66,13 +67,14 @@ public class GwtNonSerializableRemoteServiceMethodParametersInspection extends B
                                               @Nonnull PsiClass aClass,
                                               @Nonnull InspectionManager manager,
                                               boolean isOnTheFly,
-                                              GwtSerializableInspectionState state) {
+                                              GwtSerializableInspectionState state,
+                                              @Nonnull GwtClientCodeContext context) {
         GoogleGwtModuleExtension gwtFacet = getExtension(aClass);
         if (gwtFacet == null) {
             return null;
         }
 
-        if (RemoteServiceUtil.isRemoteServiceInterface(aClass)) {
+        if (context.isRemoteServiceInterface(aClass)) {
             return checkRemoteService(gwtFacet, aClass, manager, state);
         }
         return null;
@@ -89,14 +91,14 @@ public class GwtNonSerializableRemoteServiceMethodParametersInspection extends B
         PsiClass exceptionClass = psiFacade.findClass(Exception.class.getName(), scope);
 
         for (final PsiMethod method : aClass.getMethods()) {
+            GwtGenericsUtil.TypeArgs typeArgs = GwtGenericsUtil.getTypeArgs(method);
             for (final PsiParameter param : method.getParameterList().getParameters()) {
-                String typeParametersString = GwtGenericsUtil.getTypeParametersString(method, param.getName());
-                checkTypeSerial(param.getTypeElement(), typeParametersString, serializableChecker, manager, result);
+                List<PsiType> typeParameters = typeArgs.getParameterTypeParameters(param.getName());
+                checkTypeSerial(param.getTypeElement(), typeParameters, serializableChecker, manager, result);
             }
             final PsiTypeElement returnTypeElement = method.getReturnTypeElement();
             if (returnTypeElement != null) {
-                String typeParameters = GwtGenericsUtil.getReturnTypeParametersString(method);
-                checkTypeSerial(returnTypeElement, typeParameters, serializableChecker, manager, result);
+                checkTypeSerial(returnTypeElement, typeArgs.getReturnTypeParameters(), serializableChecker, manager, result);
             }
 
             PsiJavaCodeReferenceElement[] thrown = method.getThrowsList().getReferenceElements();
@@ -110,7 +112,7 @@ public class GwtNonSerializableRemoteServiceMethodParametersInspection extends B
                         ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
                 }
                 else {
-                    checkTypeSerial(classType, referenceElement, null, serializableChecker, manager, result);
+                    checkTypeSerial(classType, referenceElement, Collections.<PsiType>emptyList(), serializableChecker, manager, result);
                 }
             }
         }
@@ -119,19 +121,18 @@ public class GwtNonSerializableRemoteServiceMethodParametersInspection extends B
     }
 
     @RequiredReadAction
-    private static void checkTypeSerial(PsiTypeElement typeElement, final @Nullable String typeParameterStrings,
+    private static void checkTypeSerial(PsiTypeElement typeElement, final List<PsiType> typeParameters,
                                         final GwtSerializableUtil.SerializableChecker serializableChecker, InspectionManager manager, List<ProblemDescriptor> result) {
         PsiType type = typeElement.getType();
-        checkTypeSerial(type, typeElement, typeParameterStrings, serializableChecker, manager, result);
+        checkTypeSerial(type, typeElement, typeParameters, serializableChecker, manager, result);
     }
 
     @RequiredReadAction
-    private static void checkTypeSerial(PsiType type, final PsiElement typeElement, final @Nullable String typeParameterStrings,
+    private static void checkTypeSerial(PsiType type, final PsiElement typeElement, final List<PsiType> typeParameters,
                                         final GwtSerializableUtil.SerializableChecker serializableChecker, final InspectionManager manager, final List<ProblemDescriptor> result) {
         if (!type.isValid()) {
             return;
         }
-        List<PsiType> typeParameters = GwtGenericsUtil.getTypeParameters(typeElement, typeParameterStrings);
 
         if (serializableChecker.isSerializable(type, typeParameters)) {
             return;
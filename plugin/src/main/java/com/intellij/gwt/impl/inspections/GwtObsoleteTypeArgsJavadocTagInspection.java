@@ -6,7 +6,6 @@ import com.intellij.gwt.base.rpc.RemoteServiceUtil;
 import com.intellij.gwt.sdk.GwtVersion;
 import com.intellij.java.language.psi.*;
 import com.intellij.java.language.psi.javadoc.PsiDocComment;
-import com.intellij.java.language.psi.javadoc.PsiDocTag;
 import com.intellij.java.language.psi.util.PsiFormatUtil;
 import consulo.annotation.access.RequiredReadAction;
 import consulo.annotation.component.ExtensionImpl;
@@ -63,13 +62,10 @@ public class GwtObsoleteTypeArgsJavadocTagInspection extends BaseGwtInspection {
         List<ProblemDescriptor> problems = new ArrayList<ProblemDescriptor>();
         for (PsiMethod method : aClass.getMethods()) {
             PsiDocComment comment = method.getDocComment();
-            if (comment != null) {
-                PsiDocTag[] tags = comment.findTagsByName(GwtGenericsUtil.TYPE_ARGS_TAG);
-                if (tags.length > 0) {
-                    GenerifyServiceMethodFix fix = new GenerifyServiceMethodFix(method, gwtVersion);
-                    String message = GwtLocalize.problemDescriptionGwtTypeargsTagIsObsoleteInGwt15().get();
-                    problems.add(manager.createProblemDescriptor(comment, message, fix, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
-                }
+            if (comment != null && GwtGenericsUtil.getTypeArgs(method).hasTags()) {
+                GenerifyServiceMethodFix fix = new GenerifyServiceMethodFix(method, gwtVersion);
+                String message = GwtLocalize.problemDescriptionGwtTypeargsTagIsObsoleteInGwt15().get();
+                problems.add(manager.createProblemDescriptor(comment, message, fix, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
             }
         }
         return problems.toArray(new ProblemDescriptor[problems.size()]);
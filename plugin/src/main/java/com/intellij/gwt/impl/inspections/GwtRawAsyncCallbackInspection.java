@@ -28,6 +28,7 @@ import jakarta.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author nik
@@ -53,6 +54,11 @@ public class GwtRawAsyncCallbackInspection extends BaseGwtInspection {
             return checkAsyncronousInterface(aClass, sync, manager);
         }
 
+        final Set<String> asyncMethodNames = RemoteServiceUtil.getAsyncMethodNames(aClass.getProject());
+        if (asyncMethodNames.isEmpty()) {
+            return null;
+        }
+
         final List<ProblemDescriptor> problems = new SmartList<ProblemDescriptor>();
         JavaRecursiveElementVisitor visitor = new JavaRecursiveElementVisitor() {
             @Override
@@ -61,6 +67,12 @@ public class GwtRawAsyncCallbackInspection extends BaseGwtInspection {
 
             @Override
             public void visitMethodCallExpression(final PsiMethodCallExpression expression) {
+                // only calls named like a method of some async service interface are worth resolving
+                String name = expression.getMethodExpression().getReferenceName();
+                if (name == null || !asyncMethodNames.contains(name)) {
+                    return;
+                }
+
                 PsiMethod method = expression.resolveMethod();
                 if (method != null) {
                     PsiClass async = method.getContainingClass();
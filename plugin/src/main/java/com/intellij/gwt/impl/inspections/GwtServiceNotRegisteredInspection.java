@@ -54,7 +54,7 @@ public class GwtServiceNotRegisteredInspection extends BaseGwtInspection {
 
     @Override
     @Nullable
-    public ProblemDescriptor[] checkFile(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
+    public ProblemDescriptor[] checkFileImpl(@Nonnull final PsiFile file, @Nonnull final InspectionManager manager, final boolean isOnTheFly, Object state) {
         /*if(!DeploymentDescriptorsConstants.WEB_XML_META_DATA.getFileName().equals(file.getName()))
 		{
 			return null;
@@ -17,6 +17,7 @@
 package com.intellij.gwt.impl.inspections;
 
 import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.inspections.GwtClientCodeContext;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
 import com.intellij.java.language.psi.JavaRecursiveElementVisitor;
@@ -27,9 +28,8 @@ import com.intellij.java.language.psi.util.PsiUtil;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.google.gwt.localize.GwtLocalize;
 import consulo.gwt.base.module.extension.GwtModuleExtensionUtil;
-import consulo.gwt.base.module.extension.path.GwtSdkUtil;
+import consulo.gwt.base.module.extension.path.GwtJreEmulationCatalog;
 import consulo.gwt.module.extension.GoogleGwtModuleExtension;
-import consulo.gwt.module.extension.path.GwtLibraryPathProvider;
 import consulo.language.editor.inspection.LocalQuickFix;
 import consulo.language.editor.inspection.ProblemDescriptor;
 import consulo.language.editor.inspection.ProblemHighlightType;
@@ -45,7 +45,9 @@ import jakarta.annotation.Nullable;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author nik
@@ -67,18 +69,21 @@ public class NonJREEmulationClassesInClientCodeInspection extends BaseGwtInspect
 
     @Override
     @Nullable
-    public ProblemDescriptor[] checkFile(@Nonnull PsiFile file, @Nonnull final InspectionManager manager, boolean isOnTheFly, Object state) {
+    public ProblemDescriptor[] checkFileImpl(@Nonnull PsiFile file,
+                                             @Nonnull final InspectionManager manager,
+                                             boolean isOnTheFly,
+                                             Object state,
+                                             @Nonnull final GwtClientCodeContext context) {
         if (!shouldCheck(file)) {
             return null;
         }
 
-        final GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(file.getProject());
         final VirtualFile virtualFile = file.getVirtualFile();
         if (virtualFile == null) {
             return null;
         }
 
-        final List<GwtModule> gwtModules = gwtModulesManager.findGwtModulesByClientSourceFile(virtualFile);
+        final List<GwtModule> gwtModules = context.findGwtModulesByClientSourceFile(virtualFile);
         if (gwtModules.isEmpty()) {
             return null;
         }
@@ -88,6 +93,8 @@ public class NonJREEmulationClassesInClientCodeInspection extends BaseGwtInspect
             return null;
         }
 
+        final GwtJreEmulationCatalog emulationCatalog = context.getJreEmulationCatalog(extension);
+        final Map<PsiClass, ReferencedClassVerdict> verdicts = new HashMap<PsiClass, ReferencedClassVerdict>();
         final List<ProblemDescriptor> problems = new ArrayList<ProblemDescriptor>();
 
         file.accept(new JavaRecursiveElementVisitor() {
@@ -100,48 +107,17 @@ public class NonJREEmulationClassesInClientCodeInspection extends BaseGwtInspect
                 final PsiElement resolved = reference.resolve();
                 if (resolved instanceof PsiClass) {
                     PsiClass referencedClass = (PsiClass) resolved;
-                    if (referencedClass.isAnnotationType()) {
-                        return;
-                    }
-
-                    String className = referencedClass.getQualifiedName();
-
-                    final PsiFile psiFile = referencedClass.getContainingFile();
-                    if (psiFile != null) {
-                        final VirtualFile vFile = psiFile.getVirtualFile();
-                        if (vFile != null) {
-                            List<GwtModule> referencedModules = gwtModulesManager.findGwtModulesByClientSourceFile(vFile);
-                            if (referencedModules.isEmpty()) {
-                                referencedModules = gwtModulesManager.findModulesByClass(reference, referencedClass.getQualifiedName());
-                            }
-
-                            boolean inherited = true;
-                            for (GwtModule gwtModule : gwtModules) {
-                                inherited &= gwtModulesManager.isInheritedOrSelf(gwtModule, referencedModules);
-
-                                if (!inherited && !referencedModules.isEmpty()) {
-                                    GwtModule referencedModule = referencedModules.get(0);
-                                    final String message = GwtLocalize.problemDescriptionClass0IsDefinedInModule1WhichIsNotInheritedInModule2(className, referencedModule.getQualifiedName(), gwtModule.getQualifiedName()).get();
-                                    problems.add(manager.createProblemDescriptor(reference, message, new InheritModuleQuickFix(gwtModule, referencedModule),
-                                        ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
-                                    return;
-                                }
-                            }
-
-                            if (inherited) {
-                                return;
-                            }
-                        }
+                    ReferencedClassVerdict verdict = verdicts.get(referencedClass);
+                    if (verdict == null) {
+                        verdict = computeVerdict(referencedClass, file, gwtModules, context, emulationCatalog);
+                        verdicts.put(referencedClass, verdict);
                     }
 
-                    PsiClass topLevelClass = PsiUtil.getTopLevelClass(referencedClass);
-                    if (topLevelClass == null) {
-                        topLevelClass = referencedClass;
+                    if (verdict.myMessage != null) {
+                        problems.add(manager.createProblemDescriptor(reference, verdict.myMessage, verdict.myFix, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
                     }
-
-                    if (!containsJreEmulationClass(extension, topLevelClass.getQualifiedName())) {
-                        final String message = GwtLocalize.problemDescriptionClass0IsNotPresentedInJreEmulationLibrary(className).get();
-                        problems.add(manager.createProblemDescriptor(reference, message, ((LocalQuickFix) null), ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+                    if (!verdict.myVisitChildren) {
+                        return;
                     }
                 }
                 super.visitReferenceElement(reference);
@@ -151,16 +127,85 @@ public class NonJREEmulationClassesInClientCodeInspection extends BaseGwtInspect
         return problems.toArray(new ProblemDescriptor[problems.size()]);
     }
 
-    public static boolean containsJreEmulationClass(GoogleGwtModuleExtension<?> extension, String className) {
-        GwtLibraryPathProvider.Info info = GwtLibraryPathProvider.EP_NAME.computeSafeIfAny(it -> it.resolveInfo(extension));
-        assert info != null;
-        VirtualFile userJar = info.getUserJar();
-        if (userJar == null) {
-            return true;
+    /**
+     * Computes problem reported for all references to the class from the file. Most client files reference the same classes many times, so
+     * this is done once per referenced class.
+     */
+    @Nonnull
+    private static ReferencedClassVerdict computeVerdict(PsiClass referencedClass, PsiFile file, List<GwtModule> gwtModules,
+                                                         GwtClientCodeContext context, @Nullable GwtJreEmulationCatalog emulationCatalog) {
+        if (referencedClass.isAnnotationType()) {
+            return ReferencedClassVerdict.SKIP;
+        }
+
+        String className = referencedClass.getQualifiedName();
+
+        final PsiFile psiFile = referencedClass.getContainingFile();
+        if (psiFile != null) {
+            final VirtualFile vFile = psiFile.getVirtualFile();
+            if (vFile != null) {
+                List<GwtModule> referencedModules = context.findGwtModulesByClientSourceFile(vFile);
+                if (referencedModules.isEmpty()) {
+                    referencedModules = GwtModulesManager.getInstance(file.getProject()).findModulesByClass(file, className);
+                }
+
+                boolean inherited = true;
+                for (GwtModule gwtModule : gwtModules) {
+                    inherited &= context.isInheritedOrSelf(gwtModule, referencedModules);
+
+                    if (!inherited && !referencedModules.isEmpty()) {
+                        GwtModule referencedModule = referencedModules.get(0);
+                        final String message = GwtLocalize.problemDescriptionClass0IsDefinedInModule1WhichIsNotInheritedInModule2(className, referencedModule.getQualifiedName(), gwtModule.getQualifiedName()).get();
+                        return new ReferencedClassVerdict(message, new InheritModuleQuickFix(gwtModule, referencedModule), false);
+                    }
+                }
+
+                if (inherited) {
+                    return ReferencedClassVerdict.SKIP;
+                }
+            }
+        }
+
+        PsiClass topLevelClass = PsiUtil.getTopLevelClass(referencedClass);
+        if (topLevelClass == null) {
+            topLevelClass = referencedClass;
+        }
+
+        if (!containsJreEmulationClass(emulationCatalog, topLevelClass.getQualifiedName())) {
+            final String message = GwtLocalize.problemDescriptionClass0IsNotPresentedInJreEmulationLibrary(className).get();
+            return new ReferencedClassVerdict(message, null, true);
         }
+        return ReferencedClassVerdict.OK;
+    }
+
+    public static boolean containsJreEmulationClass(GoogleGwtModuleExtension<?> extension, String className) {
+        return containsJreEmulationClass(getJreEmulationCatalog(extension), className);
+    }
 
-        VirtualFile emulFile = userJar.findFileByRelativePath(GwtSdkUtil.getJreEmulationClassPath(className));
-        return emulFile != null;
+    private static boolean containsJreEmulationClass(@Nullable GwtJreEmulationCatalog catalog, String className) {
+        return catalog == null || className == null || catalog.contains(className);
+    }
+
+    @Nullable
+    public static GwtJreEmulationCatalog getJreEmulationCatalog(GoogleGwtModuleExtension<?> extension) {
+        return GwtClientCodeContext.findJreEmulationCatalog(extension);
+    }
+
+    private static class ReferencedClassVerdict {
+        private static final ReferencedClassVerdict SKIP = new ReferencedClassVerdict(null, null, false);
+        private static final ReferencedClassVerdict OK = new ReferencedClassVerdict(null, null, true);
+
+        @Nullable
+        private final String myMessage;
+        @Nullable
+        private final LocalQuickFix myFix;
+        private final boolean myVisitChildren;
+
+        private ReferencedClassVerdict(@Nullable String message, @Nullable LocalQuickFix fix, boolean visitChildren) {
+            myMessage = message;
+            myFix = fix;
+            myVisitChildren = visitChildren;
+        }
     }
 
     private static class InheritModuleQuickFix extends BaseGwtLocalQuickFix {
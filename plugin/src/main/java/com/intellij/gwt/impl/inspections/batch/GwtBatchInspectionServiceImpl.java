@@ -0,0 +1,25 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import com.intellij.gwt.base.inspections.GwtBatchInspectionService;
+import consulo.annotation.component.ServiceImpl;
+import consulo.application.progress.ProgressIndicator;
+import consulo.project.Project;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@ServiceImpl
+@Singleton
+public class GwtBatchInspectionServiceImpl extends GwtBatchInspectionService {
+    private final Project myProject;
+
+    @Inject
+    public GwtBatchInspectionServiceImpl(@Nonnull Project project) {
+        myProject = project;
+    }
+
+    @Override
+    public int inspect(@Nonnull ProgressIndicator indicator, boolean incremental) {
+        return new GwtInspectionRunner(myProject, incremental).run(indicator).getProblems().size();
+    }
+}
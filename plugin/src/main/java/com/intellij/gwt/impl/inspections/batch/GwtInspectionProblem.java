@@ -0,0 +1,58 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Problem found by a GWT inspection, detached from PSI so it can be persisted and written to a report.
+ */
+public class GwtInspectionProblem {
+    private final String myInspection;
+    private final String myFilePath;
+    private final int myLine;
+    private final String myLevel;
+    private final String myMessage;
+
+    public GwtInspectionProblem(@Nonnull String inspection, @Nonnull String filePath, int line, @Nonnull String level, @Nonnull String message) {
+        myInspection = inspection;
+        myFilePath = filePath;
+        myLine = line;
+        myLevel = level;
+        myMessage = message;
+    }
+
+    /**
+     * @return short name of the inspection
+     */
+    @Nonnull
+    public String getInspection() {
+        return myInspection;
+    }
+
+    /**
+     * @return path relative to the project base directory
+     */
+    @Nonnull
+    public String getFilePath() {
+        return myFilePath;
+    }
+
+    /**
+     * @return 1-based line number or 0 if unknown
+     */
+    public int getLine() {
+        return myLine;
+    }
+
+    /**
+     * @return SARIF level: error, warning or note
+     */
+    @Nonnull
+    public String getLevel() {
+        return myLevel;
+    }
+
+    @Nonnull
+    public String getMessage() {
+        return myMessage;
+    }
+}
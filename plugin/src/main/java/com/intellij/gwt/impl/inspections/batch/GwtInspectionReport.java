@@ -0,0 +1,215 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import com.intellij.gwt.base.util.GwtJsonWriter;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of a {@link GwtInspectionRunner} run with per-inspection and per-file timings. Can be written as plain JSON or as SARIF 2.1.0.
+ */
+public class GwtInspectionReport {
+    public enum Format {
+        JSON,
+        SARIF
+    }
+
+    @NonNls
+    private static final String TOOL_NAME = "GWT inspections";
+
+    private final Map<String, String> myInspectionNames = new TreeMap<String, String>();
+    private final Map<String, Long> myInspectionTimes = new HashMap<String, Long>();
+    private final Map<String, Long> myFileTimes = new TreeMap<String, Long>();
+    private final Set<String> myReusedFiles = new HashSet<String>();
+    private final List<GwtInspectionProblem> myProblems = new ArrayList<GwtInspectionProblem>();
+    private boolean myIncremental;
+    private long myTotalTime;
+
+    void addInspection(@Nonnull String shortName, @Nonnull String displayName) {
+        myInspectionNames.put(shortName, displayName);
+        myInspectionTimes.put(shortName, 0L);
+    }
+
+    synchronized void addCheckedFile(@Nonnull String path, @Nonnull Map<String, Long> inspectionTimes, @Nonnull List<GwtInspectionProblem> problems) {
+        long fileTime = 0;
+        for (Map.Entry<String, Long> entry : inspectionTimes.entrySet()) {
+            myInspectionTimes.merge(entry.getKey(), entry.getValue(), Long::sum);
+            fileTime += entry.getValue();
+        }
+        myFileTimes.put(path, fileTime);
+        myProblems.addAll(problems);
+    }
+
+    synchronized void addReusedFile(@Nonnull String path, @Nonnull List<GwtInspectionProblem> problems) {
+        myReusedFiles.add(path);
+        myProblems.addAll(problems);
+    }
+
+    void setIncremental(boolean incremental) {
+        myIncremental = incremental;
+    }
+
+    void setTotalTime(long nanos) {
+        myTotalTime = nanos;
+    }
+
+    @Nonnull
+    public List<GwtInspectionProblem> getProblems() {
+        return myProblems;
+    }
+
+    /**
+     * @return time spent in each inspection in nanoseconds, by inspection short name
+     */
+    @Nonnull
+    public Map<String, Long> getInspectionTimes() {
+        return myInspectionTimes;
+    }
+
+    public int getCheckedFileCount() {
+        return myFileTimes.size();
+    }
+
+    public int getReusedFileCount() {
+        return myReusedFiles.size();
+    }
+
+    public void write(@Nonnull Writer writer, @Nonnull Format format) throws IOException {
+        sortProblems();
+        GwtJsonWriter json = new GwtJsonWriter(writer);
+        if (format == Format.SARIF) {
+            writeSarif(json);
+        }
+        else {
+            writeJson(json);
+        }
+        writer.flush();
+    }
+
+    private void writeJson(GwtJsonWriter json) throws IOException {
+        json.beginObject();
+        json.name("tool").value(TOOL_NAME);
+        json.name("incremental").value(myIncremental);
+        json.name("checkedFiles").value(myFileTimes.size());
+        json.name("reusedFiles").value(myReusedFiles.size());
+        json.name("totalTimeMs").value(toMillis(myTotalTime));
+
+        json.name("inspections").beginArray();
+        for (Map.Entry<String, String> entry : myInspectionNames.entrySet()) {
+            String shortName = entry.getKey();
+            json.beginObject();
+            json.name("id").value(shortName);
+            json.name("name").value(entry.getValue());
+            json.name("timeMs").value(toMillis(myInspectionTimes.get(shortName)));
+            json.name("problems").value(countProblems(shortName));
+            json.endObject();
+        }
+        json.endArray();
+
+        json.name("files").beginArray();
+        for (Map.Entry<String, Long> entry : myFileTimes.entrySet()) {
+            json.beginObject();
+            json.name("path").value(entry.getKey());
+            json.name("timeMs").value(toMillis(entry.getValue()));
+            json.endObject();
+        }
+        json.endArray();
+
+        json.name("problems").beginArray();
+        for (GwtInspectionProblem problem : myProblems) {
+            json.beginObject();
+            json.name("inspection").value(problem.getInspection());
+            json.name("file").value(problem.getFilePath());
+            json.name("line").value(problem.getLine());
+            json.name("level").value(problem.getLevel());
+            json.name("message").value(problem.getMessage());
+            json.endObject();
+        }
+        json.endArray();
+        json.endObject();
+    }
+
+    private void writeSarif(GwtJsonWriter json) throws IOException {
+        json.beginObject();
+        json.name("$schema").value("https://json.schemastore.org/sarif-2.1.0.json");
+        json.name("version").value("2.1.0");
+        json.name("runs").beginArray();
+        json.beginObject();
+
+        json.name("tool").beginObject();
+        json.name("driver").beginObject();
+        json.name("name").value(TOOL_NAME);
+        json.name("rules").beginArray();
+        for (Map.Entry<String, String> entry : myInspectionNames.entrySet()) {
+            json.beginObject();
+            json.name("id").value(entry.getKey());
+            json.name("shortDescription").beginObject().name("text").value(entry.getValue()).endObject();
+            json.endObject();
+        }
+        json.endArray();
+        json.endObject();
+        json.endObject();
+
+        json.name("results").beginArray();
+        for (GwtInspectionProblem problem : myProblems) {
+            json.beginObject();
+            json.name("ruleId").value(problem.getInspection());
+            json.name("level").value(problem.getLevel());
+            json.name("message").beginObject().name("text").value(problem.getMessage()).endObject();
+            json.name("locations").beginArray().beginObject();
+            json.name("physicalLocation").beginObject();
+            json.name("artifactLocation").beginObject().name("uri").value(problem.getFilePath()).endObject();
+            if (problem.getLine() > 0) {
+                json.name("region").beginObject().name("startLine").value(problem.getLine()).endObject();
+            }
+            json.endObject();
+            json.endObject().endArray();
+            json.endObject();
+        }
+        json.endArray();
+
+        json.name("properties").beginObject();
+        json.name("incremental").value(myIncremental);
+        json.name("reusedFiles").value(myReusedFiles.size());
+        json.name("totalTimeMs").value(toMillis(myTotalTime));
+        json.name("inspectionTimesMs").beginObject();
+        for (String shortName : myInspectionNames.keySet()) {
+            json.name(shortName).value(toMillis(myInspectionTimes.get(shortName)));
+        }
+        json.endObject();
+        json.name("fileTimesMs").beginObject();
+        for (Map.Entry<String, Long> entry : myFileTimes.entrySet()) {
+            json.name(entry.getKey()).value(toMillis(entry.getValue()));
+        }
+        json.endObject();
+        json.endObject();
+
+        json.endObject();
+        json.endArray();
+        json.endObject();
+    }
+
+    private int countProblems(String inspection) {
+        int count = 0;
+        for (GwtInspectionProblem problem : myProblems) {
+            if (problem.getInspection().equals(inspection)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void sortProblems() {
+        myProblems.sort(Comparator.comparing(GwtInspectionProblem::getFilePath)
+            .thenComparingInt(GwtInspectionProblem::getLine)
+            .thenComparing(GwtInspectionProblem::getInspection));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
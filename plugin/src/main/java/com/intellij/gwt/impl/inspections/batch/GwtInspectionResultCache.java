@@ -0,0 +1,114 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import consulo.project.Project;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Content hashes and problems of files checked by the last {@link GwtInspectionRunner} run. It is stored in the GWT caches directory per
+ * project and is dropped if the set of inspections or their enabled state, severity or options in the inspection profile change.
+ */
+public class GwtInspectionResultCache {
+    private static final int FORMAT_VERSION = 2;
+    @NonNls
+    private static final String CACHES_DIR_NAME = "inspections";
+
+    private final GwtCacheFile myFile;
+    private final String myInspectionsSignature;
+    private final Map<String, Entry> myEntries = new HashMap<String, Entry>();
+
+    private GwtInspectionResultCache(GwtCacheFile file, String inspectionsSignature) {
+        myFile = file;
+        myInspectionsSignature = inspectionsSignature;
+    }
+
+    @Nonnull
+    public static GwtInspectionResultCache load(@Nonnull Project project, @Nonnull String inspectionsSignature) {
+        GwtCacheFile file = GwtCacheFile.forProject(CACHES_DIR_NAME, project, FORMAT_VERSION);
+
+        GwtInspectionResultCache cache = new GwtInspectionResultCache(file, inspectionsSignature);
+        Map<String, Entry> entries = file.read(inspectionsSignature, GwtInspectionResultCache::read);
+        if (entries != null) {
+            cache.myEntries.putAll(entries);
+        }
+        return cache;
+    }
+
+    /**
+     * @return cached problems of the file if its content hash is unchanged, {@code null} otherwise
+     */
+    @Nullable
+    public List<GwtInspectionProblem> getProblems(@Nonnull String path, @Nonnull String hash) {
+        Entry entry = myEntries.get(path);
+        return entry != null && entry.myHash.equals(hash) ? entry.myProblems : null;
+    }
+
+    public boolean isUpToDate(@Nonnull String path, @Nonnull String hash) {
+        return getProblems(path, hash) != null;
+    }
+
+    public void put(@Nonnull String path, @Nonnull String hash, @Nonnull List<GwtInspectionProblem> problems) {
+        myEntries.put(path, new Entry(hash, problems));
+    }
+
+    /**
+     * Removes entries of files which are not in the given set anymore.
+     */
+    public void retainAll(@Nonnull Set<String> paths) {
+        myEntries.keySet().retainAll(paths);
+    }
+
+    public void save() {
+        myFile.write(myInspectionsSignature, output -> {
+            output.writeInt(myEntries.size());
+            for (Map.Entry<String, Entry> entry : myEntries.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeUTF(entry.getValue().myHash);
+                List<GwtInspectionProblem> problems = entry.getValue().myProblems;
+                output.writeInt(problems.size());
+                for (GwtInspectionProblem problem : problems) {
+                    output.writeUTF(problem.getInspection());
+                    output.writeInt(problem.getLine());
+                    output.writeUTF(problem.getLevel());
+                    output.writeUTF(problem.getMessage());
+                }
+            }
+        });
+    }
+
+    private static Map<String, Entry> read(DataInputStream input) throws IOException {
+        Map<String, Entry> entries = new HashMap<String, Entry>();
+        int count = input.readInt();
+        for (int i = 0; i < count; i++) {
+            String path = input.readUTF();
+            String hash = input.readUTF();
+            int problemCount = input.readInt();
+            List<GwtInspectionProblem> problems = new ArrayList<GwtInspectionProblem>(problemCount);
+            for (int j = 0; j < problemCount; j++) {
+                String inspection = input.readUTF();
+                int line = input.readInt();
+                String level = input.readUTF();
+                String message = input.readUTF();
+                problems.add(new GwtInspectionProblem(inspection, path, line, level, message));
+            }
+            entries.put(path, new Entry(hash, problems));
+        }
+        return entries;
+    }
+
+    private static class Entry {
+        private final String myHash;
+        private final List<GwtInspectionProblem> myProblems;
+
+        private Entry(String hash, List<GwtInspectionProblem> problems) {
+            myHash = hash;
+            myProblems = problems;
+        }
+    }
+}
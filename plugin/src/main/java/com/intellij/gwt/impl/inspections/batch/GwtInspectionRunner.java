@@ -0,0 +1,269 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import com.intellij.gwt.base.inspections.BaseGwtInspection;
+import com.intellij.gwt.base.util.GwtDigestUtil;
+import com.intellij.gwt.impl.inspections.GwtClientCodeValidator;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import com.intellij.java.language.impl.JavaFileType;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.Application;
+import consulo.application.progress.ProgressIndicator;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.language.editor.inspection.LocalInspectionTool;
+import consulo.language.editor.inspection.ProblemDescriptor;
+import consulo.language.editor.rawHighlight.HighlightDisplayLevel;
+import consulo.language.psi.PsiElement;
+import consulo.logging.Logger;
+import consulo.module.Module;
+import consulo.module.ModuleManager;
+import consulo.module.content.ModuleRootManager;
+import consulo.project.Project;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.virtualFileSystem.util.VirtualFileUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Runs all GWT inspections ({@link BaseGwtInspection} subclasses) over Java sources of GWT modules without UI and collects the results into a
+ * {@link GwtInspectionReport}.
+ * <p/>
+ * Content hashes and problems of checked files are kept in {@link GwtInspectionResultCache}. In incremental mode only changed files and
+ * client files of GWT modules inheriting a changed module are checked again, results of other files are taken from the cache. Files outside
+ * client source roots (server code) are checked again only when they change themselves, so their problems caused by changes in other
+ * files, e.g. of an implemented service interface, are reported after the next full run.
+ */
+public class GwtInspectionRunner {
+    private static final Logger LOG = Logger.getInstance(GwtInspectionRunner.class);
+    @NonNls
+    private static final String REF_PLACEHOLDER = "#ref";
+    @NonNls
+    private static final String LOC_PLACEHOLDER = "#loc";
+
+    private final Project myProject;
+    private final boolean myIncremental;
+    private final List<BaseGwtInspection> myInspections;
+
+    public GwtInspectionRunner(@Nonnull Project project, boolean incremental) {
+        myProject = project;
+        myIncremental = incremental;
+        myInspections = getGwtInspections();
+    }
+
+    @Nonnull
+    public static List<BaseGwtInspection> getGwtInspections() {
+        List<BaseGwtInspection> result = new ArrayList<BaseGwtInspection>();
+        for (LocalInspectionTool tool : Application.get().getExtensionList(LocalInspectionTool.class)) {
+            if (tool instanceof BaseGwtInspection) {
+                result.add((BaseGwtInspection) tool);
+            }
+        }
+        result.sort(Comparator.comparing(BaseGwtInspection::getShortName));
+        return result;
+    }
+
+    @Nonnull
+    public GwtInspectionReport run(@Nonnull ProgressIndicator indicator) {
+        long start = System.nanoTime();
+        GwtInspectionReport report = new GwtInspectionReport();
+        report.setIncremental(myIncremental);
+        for (BaseGwtInspection inspection : myInspections) {
+            report.addInspection(inspection.getShortName(), inspection.getDisplayName().get());
+        }
+
+        GwtClientCodeValidator validator = new GwtClientCodeValidator(myProject, myInspections);
+        indicator.setText("Collecting GWT sources");
+        validator.buildTables(indicator);
+
+        GwtInspectionResultCache cache = GwtInspectionResultCache.load(myProject, validator.getInspectionsSignature());
+        final Map<VirtualFile, String> hashes = new LinkedHashMap<VirtualFile, String>();
+        final Set<VirtualFile> moduleFiles = new HashSet<VirtualFile>();
+        Application.get().runReadAction(() -> collectFiles(indicator, hashes, moduleFiles));
+
+        List<VirtualFile> toCheck = new ArrayList<VirtualFile>();
+        if (myIncremental) {
+            Set<VirtualFile> affected = collectAffectedFiles(validator, cache, hashes, moduleFiles);
+            for (Map.Entry<VirtualFile, String> entry : hashes.entrySet()) {
+                VirtualFile file = entry.getKey();
+                if (moduleFiles.contains(file)) {
+                    continue;
+                }
+                String path = getPath(file);
+                List<GwtInspectionProblem> cached = affected.contains(file) ? null : cache.getProblems(path, entry.getValue());
+                if (cached != null) {
+                    report.addReusedFile(path, cached);
+                }
+                else {
+                    toCheck.add(file);
+                }
+            }
+        }
+        else {
+            for (VirtualFile file : hashes.keySet()) {
+                if (!moduleFiles.contains(file)) {
+                    toCheck.add(file);
+                }
+            }
+        }
+
+        indicator.setText("Running GWT inspections");
+        validator.validate(toCheck, indicator, result -> {
+            String path = getPath(result.getFile());
+            List<GwtInspectionProblem> problems = new ArrayList<GwtInspectionProblem>();
+            for (Map.Entry<String, ProblemDescriptor[]> entry : result.getProblems().entrySet()) {
+                String level = getLevel(result.getLevels().get(entry.getKey()));
+                for (ProblemDescriptor descriptor : entry.getValue()) {
+                    problems.add(new GwtInspectionProblem(entry.getKey(), path, descriptor.getLineNumber() + 1, level, getMessage(descriptor)));
+                }
+            }
+            report.addCheckedFile(path, result.getTimes(), problems);
+            synchronized (cache) {
+                cache.put(path, hashes.get(result.getFile()), problems);
+            }
+        });
+
+        Set<String> paths = new HashSet<String>();
+        for (VirtualFile file : hashes.keySet()) {
+            String path = getPath(file);
+            paths.add(path);
+            if (moduleFiles.contains(file)) {
+                cache.put(path, hashes.get(file), Collections.<GwtInspectionProblem>emptyList());
+            }
+        }
+        cache.retainAll(paths);
+        cache.save();
+
+        report.setTotalTime(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Collects content hashes of Java sources and GWT module descriptors of modules with GWT support.
+     */
+    @RequiredReadAction
+    private void collectFiles(ProgressIndicator indicator, Map<VirtualFile, String> hashes, Set<VirtualFile> moduleFiles) {
+        GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+        for (Module module : ModuleManager.getInstance(myProject).getModules()) {
+            if (module.getExtension(GoogleGwtModuleExtension.class) == null) {
+                continue;
+            }
+
+            for (GwtModule gwtModule : gwtModulesManager.getGwtModules(module)) {
+                VirtualFile moduleFile = gwtModule.getModuleFile();
+                if (moduleFile != null && moduleFiles.add(moduleFile)) {
+                    hashes.put(moduleFile, hash(moduleFile));
+                }
+            }
+
+            ModuleRootManager.getInstance(module).getFileIndex().iterateContent(file -> {
+                indicator.checkCanceled();
+                if (!file.isDirectory() && file.getFileType() == JavaFileType.INSTANCE && !hashes.containsKey(file)) {
+                    hashes.put(file, hash(file));
+                }
+                return true;
+            });
+        }
+    }
+
+    /**
+     * @return changed files and client files of GWT modules which inherit a module with changed client files or a changed descriptor
+     */
+    private Set<VirtualFile> collectAffectedFiles(GwtClientCodeValidator validator, GwtInspectionResultCache cache, Map<VirtualFile, String> hashes,
+                                                  Set<VirtualFile> moduleFiles) {
+        Map<VirtualFile, List<GwtModule>> clientFiles = validator.getClientFiles();
+        Set<VirtualFile> affected = new HashSet<VirtualFile>();
+        Set<GwtModule> changedModules = new HashSet<GwtModule>();
+        Set<GwtModule> allModules = new HashSet<GwtModule>();
+        for (List<GwtModule> modules : clientFiles.values()) {
+            allModules.addAll(modules);
+        }
+
+        for (Map.Entry<VirtualFile, String> entry : hashes.entrySet()) {
+            VirtualFile file = entry.getKey();
+            if (cache.isUpToDate(getPath(file), entry.getValue())) {
+                continue;
+            }
+
+            if (moduleFiles.contains(file)) {
+                for (GwtModule module : allModules) {
+                    if (file.equals(module.getModuleFile())) {
+                        changedModules.add(module);
+                    }
+                }
+            }
+            else {
+                affected.add(file);
+                List<GwtModule> modules = clientFiles.get(file);
+                if (modules != null) {
+                    changedModules.addAll(modules);
+                }
+            }
+        }
+
+        if (changedModules.isEmpty()) {
+            return affected;
+        }
+
+        Application.get().runReadAction(() -> {
+            GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+            List<GwtModule> changed = new ArrayList<GwtModule>(changedModules);
+            Set<GwtModule> affectedModules = new HashSet<GwtModule>();
+            for (GwtModule module : allModules) {
+                if (gwtModulesManager.isInheritedOrSelf(module, changed)) {
+                    affectedModules.add(module);
+                }
+            }
+
+            for (Map.Entry<VirtualFile, List<GwtModule>> entry : clientFiles.entrySet()) {
+                if (!Collections.disjoint(entry.getValue(), affectedModules)) {
+                    affected.add(entry.getKey());
+                }
+            }
+        });
+        return affected;
+    }
+
+    @Nonnull
+    private String getPath(@Nonnull VirtualFile file) {
+        VirtualFile baseDir = myProject.getBaseDir();
+        String relativePath = baseDir != null ? VirtualFileUtil.getRelativePath(file, baseDir, '/') : null;
+        return relativePath != null ? relativePath : file.getPath();
+    }
+
+    @Nonnull
+    private static String hash(@Nonnull VirtualFile file) {
+        try {
+            return GwtDigestUtil.md5Hex(file.contentsToByteArray());
+        }
+        catch (IOException e) {
+            LOG.debug(e);
+            return Long.toString(file.getModificationStamp());
+        }
+    }
+
+    @Nonnull
+    private static String getLevel(@Nullable HighlightDisplayLevel level) {
+        if (HighlightDisplayLevel.ERROR.equals(level)) {
+            return "error";
+        }
+        if (HighlightDisplayLevel.WARNING.equals(level)) {
+            return "warning";
+        }
+        return "note";
+    }
+
+    @RequiredReadAction
+    @Nonnull
+    private static String getMessage(@Nonnull ProblemDescriptor descriptor) {
+        String message = descriptor.getDescriptionTemplate();
+        PsiElement element = descriptor.getPsiElement();
+        if (message.contains(REF_PLACEHOLDER)) {
+            message = message.replace(REF_PLACEHOLDER, element != null ? element.getText() : "");
+        }
+        return message.replace(LOC_PLACEHOLDER, "").trim();
+    }
+}
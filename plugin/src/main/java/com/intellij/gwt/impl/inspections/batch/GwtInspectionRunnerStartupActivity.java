@@ -0,0 +1,73 @@
+package com.intellij.gwt.impl.inspections.batch;
+
+import consulo.annotation.component.ExtensionImpl;
+import consulo.application.Application;
+import consulo.application.progress.EmptyProgressIndicator;
+import consulo.logging.Logger;
+import consulo.project.DumbService;
+import consulo.project.Project;
+import consulo.project.startup.PostStartupActivity;
+import consulo.ui.UIAccess;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Headless entry point for {@link GwtInspectionRunner}. When the IDE is started in headless mode with {@code -Dgwt.inspections.report=<file>}
+ * the opened project is inspected as soon as indexing is finished and the report is written to the file, then the application exits.
+ * <ul>
+ * <li>{@code -Dgwt.inspections.format=json|sarif} selects the report format, SARIF by default</li>
+ * <li>{@code -Dgwt.inspections.incremental=true} checks only files changed since the previous run and their dependents</li>
+ * </ul>
+ */
+@ExtensionImpl
+public class GwtInspectionRunnerStartupActivity implements PostStartupActivity {
+    private static final Logger LOG = Logger.getInstance(GwtInspectionRunnerStartupActivity.class);
+    @NonNls
+    public static final String REPORT_PROPERTY = "gwt.inspections.report";
+    @NonNls
+    public static final String FORMAT_PROPERTY = "gwt.inspections.format";
+    @NonNls
+    public static final String INCREMENTAL_PROPERTY = "gwt.inspections.incremental";
+
+    @Override
+    public void runActivity(@Nonnull Project project, @Nonnull UIAccess uiAccess) {
+        String reportPath = System.getProperty(REPORT_PROPERTY);
+        if (reportPath == null || !Application.get().isHeadlessEnvironment()) {
+            return;
+        }
+
+        DumbService.getInstance(project).runWhenSmart(() -> Application.get().executeOnPooledThread(() -> {
+            try {
+                runInspections(project, new File(reportPath));
+            }
+            finally {
+                Application.get().invokeLater(() -> Application.get().exit());
+            }
+        }));
+    }
+
+    private static void runInspections(Project project, File reportFile) {
+        GwtInspectionReport.Format format = "json".equalsIgnoreCase(System.getProperty(FORMAT_PROPERTY))
+            ? GwtInspectionReport.Format.JSON
+            : GwtInspectionReport.Format.SARIF;
+        boolean incremental = Boolean.getBoolean(INCREMENTAL_PROPERTY);
+
+        GwtInspectionReport report = new GwtInspectionRunner(project, incremental).run(new EmptyProgressIndicator());
+        File parent = reportFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), StandardCharsets.UTF_8))) {
+            report.write(writer, format);
+        }
+        catch (IOException e) {
+            LOG.error("Cannot write GWT inspections report to " + reportFile, e);
+            return;
+        }
+        LOG.info("GWT inspections: " + report.getProblems().size() + " problem(s), " + report.getCheckedFileCount() + " file(s) checked, " +
+            report.getReusedFileCount() + " file(s) taken from cache");
+    }
+}
@@ -0,0 +1,57 @@
+package com.intellij.gwt.impl.make;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.localize.LocalizeValue;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.util.function.Supplier;
+
+/**
+ * Phases of the GWT compiler recognized by prefixes of its progress output. Names of the constants are stored in compile reports, so
+ * constants must not be renamed.
+ */
+public enum GwtCompilePhase {
+    LOADING_INHERITED_MODULES("Loading inherited module", "compiler.phase.loadingInheritedModules", GwtLocalize::compilePhaseLoadingInheritedModules),
+    ANALYZING_SOURCES("Analyzing source", "compiler.phase.analyzingSources", GwtLocalize::compilePhaseAnalyzingSources),
+    COMPILING_SOURCES("Output will be written into", "compiler.phase.compilingSources", GwtLocalize::compilePhaseCompilingSources),
+    COMPILING_PERMUTATIONS("Compiling permutation", "compiler.phase.compilingPermutations", GwtLocalize::compilePhaseCompilingPermutations),
+    LINKING("Linking into", "compiler.phase.linking", GwtLocalize::compilePhaseLinking),
+    COPYING_PUBLIC_FILES("Copying all files found on public path", "compiler.phase.copyingPublicFiles", GwtLocalize::compilePhaseCopyingPublicFiles);
+
+    private final String myPrefix;
+    private final GwtMetric myMetric;
+    private final Supplier<LocalizeValue> myDisplayName;
+
+    GwtCompilePhase(@NonNls String prefix, @NonNls String metricName, Supplier<LocalizeValue> displayName) {
+        myPrefix = prefix;
+        myMetric = GwtTelemetry.getMetric(metricName);
+        myDisplayName = displayName;
+    }
+
+    @Nonnull
+    public GwtMetric getMetric() {
+        return myMetric;
+    }
+
+    @Nonnull
+    public LocalizeValue getDisplayName() {
+        return myDisplayName.get();
+    }
+
+    /**
+     * @return phase started by the given line of compiler output
+     */
+    @Nullable
+    public static GwtCompilePhase findByLine(@Nonnull String line) {
+        for (GwtCompilePhase phase : values()) {
+            if (line.startsWith(phase.myPrefix)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,231 @@
+package com.intellij.gwt.impl.make;
+
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.util.lang.StringUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Timeline of a single GWT compiler run for a GWT module: phases and permutations with their start offsets and durations.
+ */
+public class GwtCompileReport {
+    private static final int BAR_WIDTH = 40;
+
+    private final long myTimestamp;
+    private final long myTotalMillis;
+    private final boolean mySuccessful;
+    private final List<Span> myPhases;
+    private final List<Span> myPermutations;
+
+    GwtCompileReport(long timestamp, long totalMillis, boolean successful, @Nonnull List<Span> phases, @Nonnull List<Span> permutations) {
+        myTimestamp = timestamp;
+        myTotalMillis = totalMillis;
+        mySuccessful = successful;
+        myPhases = phases;
+        myPermutations = permutations;
+    }
+
+    public long getTimestamp() {
+        return myTimestamp;
+    }
+
+    public long getTotalMillis() {
+        return myTotalMillis;
+    }
+
+    public boolean isSuccessful() {
+        return mySuccessful;
+    }
+
+    /**
+     * @return phases in order of their start, names are {@link GwtCompilePhase} constant names
+     */
+    @Nonnull
+    public List<Span> getPhases() {
+        return Collections.unmodifiableList(myPhases);
+    }
+
+    /**
+     * @return permutations in order of their start, names are permutation indices
+     */
+    @Nonnull
+    public List<Span> getPermutations() {
+        return Collections.unmodifiableList(myPermutations);
+    }
+
+    @Nullable
+    public Span findPhase(@Nonnull String name) {
+        for (Span phase : myPhases) {
+            if (phase.getName().equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Formats the report as text lines: a header with the total time compared to the previous successful builds and a bar per phase and
+     * permutation placed on the time axis of the build.
+     */
+    @Nonnull
+    public List<String> formatTimeline(@Nonnull String gwtModuleName, @Nonnull List<GwtCompileReport> previous) {
+        List<String> lines = new ArrayList<String>();
+        List<GwtCompileReport> successful = new ArrayList<GwtCompileReport>();
+        for (GwtCompileReport report : previous) {
+            if (report.isSuccessful()) {
+                successful.add(report);
+            }
+        }
+
+        if (successful.isEmpty()) {
+            lines.add(GwtLocalize.compileReportHeader01(gwtModuleName, formatMillis(myTotalMillis)).get());
+        }
+        else {
+            long sum = 0;
+            for (GwtCompileReport report : successful) {
+                sum += report.getTotalMillis();
+            }
+            GwtCompileReport last = successful.get(successful.size() - 1);
+            lines.add(GwtLocalize.compileReportTrend0123(gwtModuleName, formatMillis(myTotalMillis), formatMillis(last.getTotalMillis()),
+                formatMillis(sum / successful.size())).get());
+        }
+
+        int nameWidth = 0;
+        List<String> names = new ArrayList<String>();
+        for (Span phase : myPhases) {
+            GwtCompilePhase compilePhase = findCompilePhase(phase.getName());
+            String name = compilePhase != null ? compilePhase.getDisplayName().get() : phase.getName();
+            names.add(name);
+            nameWidth = Math.max(nameWidth, name.length());
+        }
+        for (Span permutation : myPermutations) {
+            String name = "  " + GwtLocalize.compileReportPermutation0(permutation.getName()).get();
+            names.add(name);
+            nameWidth = Math.max(nameWidth, name.length());
+        }
+
+        int i = 0;
+        for (Span phase : myPhases) {
+            lines.add(formatSpan(names.get(i++), nameWidth, phase, getMeanDuration(successful, phase.getName())));
+        }
+        for (Span permutation : myPermutations) {
+            lines.add(formatSpan(names.get(i++), nameWidth, permutation, -1));
+        }
+        return lines;
+    }
+
+    private String formatSpan(String name, int nameWidth, Span span, long meanDuration) {
+        StringBuilder line = new StringBuilder();
+        line.append("  ").append(name).append(StringUtil.repeatSymbol(' ', nameWidth - name.length()));
+        line.append(" |");
+        long total = Math.max(myTotalMillis, 1);
+        int start = (int) Math.min(BAR_WIDTH, span.getStartMillis() * BAR_WIDTH / total);
+        int length = (int) Math.max(1, Math.min(BAR_WIDTH - start, span.getDurationMillis() * BAR_WIDTH / total));
+        line.append(StringUtil.repeatSymbol(' ', start)).append(StringUtil.repeatSymbol('#', length));
+        line.append(StringUtil.repeatSymbol(' ', Math.max(0, BAR_WIDTH - start - length))).append("| ");
+        line.append(formatMillis(span.getStartMillis())).append(" + ").append(formatMillis(span.getDurationMillis()));
+        if (meanDuration >= 0) {
+            long delta = span.getDurationMillis() - meanDuration;
+            line.append(" (").append(delta >= 0 ? "+" : "-").append(formatMillis(Math.abs(delta))).append(')');
+        }
+        return line.toString();
+    }
+
+    private static long getMeanDuration(List<GwtCompileReport> reports, String phaseName) {
+        long sum = 0;
+        int count = 0;
+        for (GwtCompileReport report : reports) {
+            Span phase = report.findPhase(phaseName);
+            if (phase != null) {
+                sum += phase.getDurationMillis();
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : -1;
+    }
+
+    @Nullable
+    private static GwtCompilePhase findCompilePhase(String name) {
+        for (GwtCompilePhase phase : GwtCompilePhase.values()) {
+            if (phase.name().equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+
+    private static String formatMillis(long millis) {
+        return String.format("%.1fs", millis / 1000.0);
+    }
+
+    void write(@Nonnull DataOutput output) throws IOException {
+        output.writeLong(myTimestamp);
+        output.writeLong(myTotalMillis);
+        output.writeBoolean(mySuccessful);
+        writeSpans(output, myPhases);
+        writeSpans(output, myPermutations);
+    }
+
+    @Nonnull
+    static GwtCompileReport read(@Nonnull DataInput input) throws IOException {
+        long timestamp = input.readLong();
+        long totalMillis = input.readLong();
+        boolean successful = input.readBoolean();
+        List<Span> phases = readSpans(input);
+        List<Span> permutations = readSpans(input);
+        return new GwtCompileReport(timestamp, totalMillis, successful, phases, permutations);
+    }
+
+    private static void writeSpans(DataOutput output, List<Span> spans) throws IOException {
+        output.writeInt(spans.size());
+        for (Span span : spans) {
+            output.writeUTF(span.getName());
+            output.writeLong(span.getStartMillis());
+            output.writeLong(span.getDurationMillis());
+        }
+    }
+
+    private static List<Span> readSpans(DataInput input) throws IOException {
+        int count = input.readInt();
+        List<Span> spans = new ArrayList<Span>(count);
+        for (int i = 0; i < count; i++) {
+            spans.add(new Span(input.readUTF(), input.readLong(), input.readLong()));
+        }
+        return spans;
+    }
+
+    public static class Span {
+        private final String myName;
+        private final long myStartMillis;
+        private final long myDurationMillis;
+
+        Span(@Nonnull String name, long startMillis, long durationMillis) {
+            myName = name;
+            myStartMillis = startMillis;
+            myDurationMillis = durationMillis;
+        }
+
+        @Nonnull
+        public String getName() {
+            return myName;
+        }
+
+        /**
+         * @return offset from the start of the compiler run
+         */
+        public long getStartMillis() {
+            return myStartMillis;
+        }
+
+        public long getDurationMillis() {
+            return myDurationMillis;
+        }
+    }
+}
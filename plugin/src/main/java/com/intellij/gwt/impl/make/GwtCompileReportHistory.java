@@ -0,0 +1,76 @@
+package com.intellij.gwt.impl.make;
+
+import com.intellij.gwt.base.make.GwtCacheFile;
+import consulo.project.Project;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compile reports of the last builds of a GWT module. They are stored in the GWT caches directory per project and GWT module, so they
+ * survive cleaning of compiler output.
+ */
+public class GwtCompileReportHistory {
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_REPORTS = 20;
+    @NonNls
+    private static final String REPORTS_DIR_NAME = "compile-reports";
+
+    private final GwtCacheFile myCacheFile;
+    private final String myGwtModuleName;
+    private final List<GwtCompileReport> myReports = new ArrayList<GwtCompileReport>();
+
+    private GwtCompileReportHistory(GwtCacheFile cacheFile, String gwtModuleName) {
+        myCacheFile = cacheFile;
+        myGwtModuleName = gwtModuleName;
+    }
+
+    @Nonnull
+    public static GwtCompileReportHistory load(@Nonnull Project project, @Nonnull String gwtModuleName) {
+        GwtCacheFile cacheFile = GwtCacheFile.forProjectEntry(REPORTS_DIR_NAME, project, gwtModuleName, FORMAT_VERSION);
+        GwtCompileReportHistory history = new GwtCompileReportHistory(cacheFile, gwtModuleName);
+        List<GwtCompileReport> reports = history.myCacheFile.read(gwtModuleName, input -> {
+            int count = input.readInt();
+            List<GwtCompileReport> result = new ArrayList<GwtCompileReport>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(GwtCompileReport.read(input));
+            }
+            return result;
+        });
+        if (reports != null) {
+            history.myReports.addAll(reports);
+        }
+        return history;
+    }
+
+    /**
+     * @return reports from the oldest to the newest
+     */
+    @Nonnull
+    public List<GwtCompileReport> getReports() {
+        return Collections.unmodifiableList(myReports);
+    }
+
+    /**
+     * Appends the report, dropping the oldest ones beyond the history limit, and saves the history.
+     */
+    public void add(@Nonnull GwtCompileReport report) {
+        myReports.add(report);
+        while (myReports.size() > MAX_REPORTS) {
+            myReports.remove(0);
+        }
+        save();
+    }
+
+    private void save() {
+        myCacheFile.write(myGwtModuleName, output -> {
+            output.writeInt(myReports.size());
+            for (GwtCompileReport report : myReports) {
+                report.write(output);
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.intellij.gwt.impl.make;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects start and end times of compiler phases and permutations while the compiler output is parsed. The compiler reports only starts of
+ * permutations, so a permutation is considered finished when the next one starts or the phase ends; with several local workers these
+ * durations are approximate. Compile and phase metrics are recorded by {@link GwtCompilerProcessHandler}, the timeline records only
+ * permutation times.
+ */
+class GwtCompileTimeline {
+    private static final GwtMetric PERMUTATION_METRIC = GwtTelemetry.getMetric("compiler.permutation");
+
+    private final long myTimestamp = System.currentTimeMillis();
+    private final long myStartNanos = System.nanoTime();
+    private final List<GwtCompileReport.Span> myPhases = new ArrayList<GwtCompileReport.Span>();
+    private final List<GwtCompileReport.Span> myPermutations = new ArrayList<GwtCompileReport.Span>();
+    private GwtCompilePhase myPhase;
+    private long myPhaseStart;
+    private String myPermutation;
+    private long myPermutationStart;
+
+    /**
+     * Finishes the current phase and starts the given one, does nothing if the phase is already running
+     */
+    public synchronized void startPhase(@Nullable GwtCompilePhase phase) {
+        if (phase == myPhase) {
+            return;
+        }
+
+        long now = getElapsedMillis();
+        finishPermutation(now);
+        if (myPhase != null) {
+            long duration = now - myPhaseStart;
+            myPhases.add(new GwtCompileReport.Span(myPhase.name(), myPhaseStart, duration));
+        }
+        myPhase = phase;
+        myPhaseStart = now;
+    }
+
+    public synchronized void startPermutation(@Nonnull String permutation) {
+        startPhase(GwtCompilePhase.COMPILING_PERMUTATIONS);
+        long now = getElapsedMillis();
+        finishPermutation(now);
+        myPermutation = permutation;
+        myPermutationStart = now;
+    }
+
+    @Nonnull
+    public synchronized GwtCompileReport finish(boolean successful) {
+        startPhase(null);
+        return new GwtCompileReport(myTimestamp, getElapsedMillis(), successful, new ArrayList<GwtCompileReport.Span>(myPhases),
+            new ArrayList<GwtCompileReport.Span>(myPermutations));
+    }
+
+    private void finishPermutation(long now) {
+        if (myPermutation != null) {
+            long duration = now - myPermutationStart;
+            myPermutations.add(new GwtCompileReport.Span(myPermutation, myPermutationStart, duration));
+            recordMetric(PERMUTATION_METRIC, duration);
+            myPermutation = null;
+        }
+    }
+
+    private long getElapsedMillis() {
+        return (System.nanoTime() - myStartNanos) / 1000000;
+    }
+
+    private static void recordMetric(GwtMetric metric, long millis) {
+        if (GwtTelemetry.isEnabled()) {
+            metric.record(millis * 1000000);
+        }
+    }
+}
@@ -194,6 +194,7 @@ public class GwtCompiler implements ClassInstrumentingCompiler {
             if (exitCode == null || exitCode != 0) {
                 context.addMessage(CompilerMessageCategory.ERROR, "Compiler process exited with code: " + exitCode, null, -1, 1);
             }
+            reportTimeline(context, module, gwtModuleName.get(), handler.createReport(exitCode != null && exitCode == 0));
         }
         catch (Exception e) {
             LOG.warn(e);
@@ -219,6 +220,14 @@ public class GwtCompiler implements ClassInstrumentingCompiler {
         return context.getMessageCount(CompilerMessageCategory.ERROR) == 0;
     }
 
+    private static void reportTimeline(CompileContext context, Module module, String gwtModuleName, GwtCompileReport report) {
+        GwtCompileReportHistory history = GwtCompileReportHistory.load(module.getProject(), gwtModuleName);
+        for (String line : report.formatTimeline(gwtModuleName, history.getReports())) {
+            context.addMessage(CompilerMessageCategory.INFORMATION, line, null, -1, -1);
+        }
+        history.add(report);
+    }
+
     @Nonnull
     private static OwnJavaParameters createCommand(GoogleGwtModuleExtension extension,
                                                    GwtLibraryPathProvider.Info pathInfo,
@@ -0,0 +1,289 @@
+package com.intellij.gwt.impl.make;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.compiler.CompilerMessageCategory;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.localize.LocalizeValue;
+import consulo.logging.Logger;
+import consulo.util.io.FileUtil;
+import consulo.util.lang.StringUtil;
+import consulo.virtualFileSystem.LocalFileSystem;
+import consulo.virtualFileSystem.VirtualFileManager;
+import consulo.virtualFileSystem.util.VirtualFileUtil;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.NonNls;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Parses output of one stream of the GWT compiler into compiler messages, phases and permutations. The parser doesn't depend on a running
+ * process or a compile context, so it can be fed recorded compiler logs.
+ */
+public class GwtCompilerOutputParser {
+    private static final Logger LOG = Logger.getInstance("#com.intellij.gwt.make.GwtCompilerProcessHandler");
+    @NonNls
+    private static final String ANALYSING_SOURCES_PREFIX = "Analyzing source";
+    @NonNls
+    private static final String COPYING_PUBLIC_FILES_PREFIX = "Copying all files found on public path";
+    @NonNls
+    private static final String COMPILATION_START_PREFIX = "Output will be written into";
+    @NonNls
+    private static final String LOADING_INHERITED_PREFIX = "Loading inherited module";
+    @NonNls
+    private static final String PERMUTATION_PREFIX = "Compiling permutation ";
+    @NonNls
+    private static final String FINDING_ENTRY_POINTS_PREFIX = "Finding entry point classes";
+    @NonNls
+    private static final String ERROR_PREFIX = "[ERROR] ";
+    @NonNls
+    private static final String WARNING_PREFIX = "[WARN] ";
+    @NonNls
+    private static final String WARNING_IN_STDERR_PREFIX = "WARNING:";
+    @NonNls
+    private static final String ERROR_FILE_PREFIX = "Errors in ";
+    @NonNls
+    private static final String ERROR_LINE_PREFIX = "Line ";
+    @NonNls
+    private static final String ERROR_LINE_SUFFIX = ": ";
+    @NonNls
+    private static final String BUILD_FAILED_MESSAGE = "Build failed";
+    @NonNls
+    private static final String STACKTRACE_PREFIX = "at ";
+    @NonNls
+    private static final Set<String> MODULE_FILE_ERRORS = new HashSet<>(Arrays.asList("Module has no entry points defined"));
+    @NonNls
+    private static final String[] CLASS_NAME_PREFIXES = {
+        "Type ",
+        "Return type: ",
+        "Parameter: "
+    };
+
+    private static final GwtMetric OUTPUT_PARSING_METRIC = GwtTelemetry.getMetric("compiler.outputParsing");
+
+    private final Listener myListener;
+    private final String myModuleFileUrl;
+    private final boolean myErrorStream;
+    private final StringBuilder myBuffer = new StringBuilder();
+    private String myCurrentFileUrl;
+    private boolean myFindingEntryPoints = false;
+    private boolean myStackTraceExpected = false;
+    private boolean myCurrentMessageIsWarning;
+
+    public GwtCompilerOutputParser(@Nonnull Listener listener, @Nullable String moduleFileUrl, final boolean isErrorStream) {
+        myListener = listener;
+        myModuleFileUrl = moduleFileUrl;
+        myErrorStream = isErrorStream;
+    }
+
+    /**
+     * Parses a chunk of the output, an incomplete last line is kept until the next chunk
+     */
+    public void parseOutput(final String text) {
+        long parseStart = OUTPUT_PARSING_METRIC.start();
+        try {
+            parseLines(text);
+        }
+        finally {
+            OUTPUT_PARSING_METRIC.stop(parseStart);
+        }
+    }
+
+    private void parseLines(final String text) {
+        myBuffer.append(text);
+        int start = 0;
+        while (true) {
+            int lineEnd1 = myBuffer.indexOf("\n", start);
+            int lineEnd2 = myBuffer.indexOf("\r", start);
+            if (lineEnd1 == -1 && lineEnd2 == -1) {
+                break;
+            }
+
+            int lineEnd = lineEnd1 == -1 ? lineEnd2 : lineEnd2 == -1 ? lineEnd1 : Math.min(lineEnd1, lineEnd2);
+            parseLine(myBuffer.substring(start, lineEnd).trim());
+            start = lineEnd + 1;
+        }
+
+        myBuffer.delete(0, start);
+    }
+
+    private void parseLine(String line) {
+        if (line.length() == 0) {
+            return;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug((myErrorStream ? "[stderr]" : "") + line);
+        }
+
+        if (!myErrorStream) {
+            updateCompilationPhase(line);
+        }
+
+        if (line.startsWith(ERROR_FILE_PREFIX)) {
+            myStackTraceExpected = false;
+            setCurrentFileUrl(line.substring(ERROR_FILE_PREFIX.length()));
+        }
+        else if (line.startsWith(WARNING_PREFIX)) {
+            String message = line.substring(WARNING_PREFIX.length());
+            myListener.addMessage(CompilerMessageCategory.WARNING, message, myCurrentFileUrl, -1, -1);
+        }
+        else if (line.startsWith(ERROR_PREFIX)) {
+            myStackTraceExpected = false;
+            boolean errorLineParsed = false;
+            int start = ERROR_PREFIX.length();
+            if (line.startsWith(ERROR_FILE_PREFIX, start)) {
+                start += ERROR_FILE_PREFIX.length();
+                int first = line.indexOf('\'', start);
+                int last = line.lastIndexOf('\'');
+                if (first != -1 && last != -1) {
+                    setCurrentFileUrl(line.substring(first + 1, last));
+                    errorLineParsed = true;
+                }
+            }
+            else if (line.startsWith(ERROR_LINE_PREFIX, start)) {
+                start += ERROR_LINE_PREFIX.length();
+                final int end = line.indexOf(ERROR_LINE_SUFFIX, start);
+                if (end != -1) {
+                    try {
+                        int lineNumber = Integer.parseInt(line.substring(start, end));
+                        String message = line.substring(end + ERROR_LINE_SUFFIX.length());
+                        myListener.addMessage(CompilerMessageCategory.ERROR, message, myCurrentFileUrl, lineNumber, 0);
+                        errorLineParsed = true;
+                    }
+                    catch (NumberFormatException e) {
+                    }
+                }
+            }
+            else {
+                line = line.substring(start);
+            }
+
+            if (MODULE_FILE_ERRORS.contains(line) || myFindingEntryPoints) {
+                myListener.addMessage(CompilerMessageCategory.ERROR, line, myModuleFileUrl, -1, -1);
+                errorLineParsed = true;
+            }
+
+            if (!errorLineParsed && !BUILD_FAILED_MESSAGE.equals(line)) {
+                myListener.addMessage(CompilerMessageCategory.ERROR, line, null, -1, -1);
+                myStackTraceExpected = true;
+            }
+        }
+        else if (line.startsWith(ANALYSING_SOURCES_PREFIX)) {
+            myListener.startPhase(GwtCompilePhase.ANALYZING_SOURCES);
+            myListener.setProgressText(GwtLocalize.progressTextAnalyzingSources());
+        }
+        else if (line.startsWith(COPYING_PUBLIC_FILES_PREFIX)) {
+            myListener.startPhase(GwtCompilePhase.COPYING_PUBLIC_FILES);
+            myListener.setProgressText(GwtLocalize.progressTextCopyingFilesFromPublicPaths());
+        }
+        else if (line.startsWith(COMPILATION_START_PREFIX)) {
+            myListener.startPhase(GwtCompilePhase.COMPILING_SOURCES);
+            myListener.setProgressText(GwtLocalize.progressTextCompilingSources());
+        }
+        else if (line.startsWith(LOADING_INHERITED_PREFIX)) {
+            myListener.startPhase(GwtCompilePhase.LOADING_INHERITED_MODULES);
+            myListener.setProgressText(GwtLocalize.progressTextLoadingInheritedModules());
+        }
+        else if (line.startsWith(FINDING_ENTRY_POINTS_PREFIX)) {
+            myFindingEntryPoints = true;
+        }
+        else if (line.startsWith(STACKTRACE_PREFIX) && myStackTraceExpected) {
+            myListener.addMessage(CompilerMessageCategory.ERROR, line, null, -1, -1);
+        }
+        else if (myErrorStream) {
+            processStderrLine(line);
+        }
+        else {
+            for (String prefix : CLASS_NAME_PREFIXES) {
+                if (line.startsWith(prefix)) {
+                    int start = prefix.length();
+                    int end = line.indexOf(' ', start);
+                    if (end == -1) {
+                        end = line.length();
+                    }
+                    setClassName(line.substring(start, end));
+                    break;
+                }
+            }
+            myFindingEntryPoints = false;
+        }
+    }
+
+    /**
+     * Handles the phases not shown in the progress indicator: compilation of permutations and linking
+     */
+    private void updateCompilationPhase(String line) {
+        if (line.startsWith(PERMUTATION_PREFIX)) {
+            int start = PERMUTATION_PREFIX.length();
+            int end = start;
+            while (end < line.length() && Character.isDigit(line.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                myListener.startPermutation(line.substring(start, end));
+            }
+            else {
+                myListener.startPhase(GwtCompilePhase.COMPILING_PERMUTATIONS);
+            }
+        }
+        else if (GwtCompilePhase.findByLine(line) == GwtCompilePhase.LINKING) {
+            myListener.startPhase(GwtCompilePhase.LINKING);
+        }
+    }
+
+    private void processStderrLine(String line) {
+        CompilerMessageCategory category = CompilerMessageCategory.ERROR;
+        if (line.startsWith(WARNING_IN_STDERR_PREFIX)) {
+            myCurrentMessageIsWarning = true;
+            line = line.substring(WARNING_IN_STDERR_PREFIX.length());
+            category = CompilerMessageCategory.WARNING;
+        }
+        else if (myCurrentMessageIsWarning) {
+            category = CompilerMessageCategory.WARNING;
+            myCurrentMessageIsWarning = false;
+        }
+        myListener.addMessage(category, line, null, -1, -1);
+    }
+
+    private void setClassName(final String className) {
+        String url = myListener.findClassFileUrl(className);
+        if (url != null) {
+            myCurrentFileUrl = url;
+        }
+    }
+
+    private void setCurrentFileUrl(final String url) {
+        myCurrentFileUrl = fixFileUrl(url);
+    }
+
+    private static String fixFileUrl(String url) {
+        url = StringUtil.replace(url, "%20", " ");//todo[nik]
+        if (url.contains(":/")) {
+            return VirtualFileUtil.fixURLforIDEA(url);
+        }
+        return VirtualFileManager.constructUrl(LocalFileSystem.PROTOCOL, FileUtil.toSystemIndependentName(url));
+    }
+
+    /**
+     * Receives everything recognized in the compiler output
+     */
+    public interface Listener {
+        void addMessage(@Nonnull CompilerMessageCategory category, @Nonnull String message, @Nullable String url, int line, int column);
+
+        void setProgressText(@Nonnull LocalizeValue text);
+
+        void startPhase(@Nonnull GwtCompilePhase phase);
+
+        void startPermutation(@Nonnull String permutation);
+
+        /**
+         * @return url of the file containing the class mentioned in the output, {@code null} if it isn't found
+         */
+        @Nullable
+        String findClassFileUrl(@Nonnull String className);
+    }
+}
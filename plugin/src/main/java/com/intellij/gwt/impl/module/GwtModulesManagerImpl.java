@@ -17,6 +17,8 @@
 package com.intellij.gwt.impl.module;
 
 import com.intellij.gwt.base.module.index.GwtHtmlFileIndex;
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtEntryPoint;
 import com.intellij.gwt.module.model.GwtModule;
@@ -67,6 +69,15 @@ import java.util.*;
 public class GwtModulesManagerImpl extends GwtModulesManager
 {
 	private static final Key<CachedValue<Set<GwtModule>>> CACHED_GWT_INHERITED_MODULES = Key.create("CACHED_GWT_INHERITED_MODULES");
+	private static final Key<CachedValue<GwtModule[]>> CACHED_GWT_MODULES = Key.create("CACHED_GWT_MODULES");
+	private static final Key<CachedValue<XmlFile>> CACHED_GWT_HTML_FILE = Key.create("CACHED_GWT_HTML_FILE");
+	private static final Key<CachedValue<Map<String, XmlTag>>> CACHED_HTML_ID_TO_TAG = Key.create("CACHED_HTML_ID_TO_TAG");
+	private static final GwtMetric GET_MODULES_METRIC = GwtTelemetry.getMetric("modules.getGwtModules");
+	private static final GwtMetric FIND_BY_FILE_METRIC = GwtTelemetry.getMetric("modules.findByClientOrPublicFile");
+	private static final GwtMetric FIND_BY_NAME_METRIC = GwtTelemetry.getMetric("modules.findByName");
+	private static final GwtMetric FIND_HTML_FILE_METRIC = GwtTelemetry.getMetric("modules.findHtmlFileByModule");
+	private static final GwtMetric HTML_IDS_METRIC = GwtTelemetry.getMetric("modules.htmlIds");
+	private static final GwtMetric INHERITED_MODULES_METRIC = GwtTelemetry.getMetric("modules.inheritedModules");
 	private Project myProject;
 	private ProjectFileIndex myProjectFileIndex;
 
@@ -86,7 +97,20 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 
 	private GwtModule[] getGwtModules(@Nonnull GlobalSearchScope scope)
 	{
-		if(!DumbService.isDumb(myProject))
+		long start = GET_MODULES_METRIC.start();
+		try
+		{
+			return doGetGwtModules(scope);
+		}
+		finally
+		{
+			GET_MODULES_METRIC.stop(start);
+		}
+	}
+
+	private GwtModule[] doGetGwtModules(@Nonnull GlobalSearchScope scope)
+	{
+		if(DumbService.isDumb(myProject))
 		{
 			return new GwtModule[0];
 		}
@@ -109,7 +133,28 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 	@Nonnull
 	public GwtModule[] getGwtModules(@Nonnull final Module module)
 	{
-		return getGwtModules(GlobalSearchScope.moduleScope(module));
+		if(DumbService.isDumb(myProject))
+		{
+			return new GwtModule[0];
+		}
+
+		GET_MODULES_METRIC.cacheAccess();
+		CachedValue<GwtModule[]> cachedValue = module.getUserData(CACHED_GWT_MODULES);
+		if(cachedValue == null)
+		{
+			cachedValue = CachedValuesManager.getManager(myProject).createCachedValue(new CachedValueProvider<GwtModule[]>()
+			{
+				@Override
+				public Result<GwtModule[]> compute()
+				{
+					GET_MODULES_METRIC.cacheMiss();
+					GwtModule[] modules = getGwtModules(GlobalSearchScope.moduleScope(module));
+					return Result.create(modules, PsiModificationTracker.MODIFICATION_COUNT, ProjectRootManager.getInstance(myProject));
+				}
+			}, false);
+			module.putUserData(CACHED_GWT_MODULES, cachedValue);
+		}
+		return cachedValue.getValue().clone();
 	}
 
 
@@ -138,6 +183,20 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 
 	@Nonnull
 	private List<GwtModule> findModulesByClientOrPublicFile(final VirtualFile file, final boolean clientFileAllowed, final boolean publicFileAllowed)
+	{
+		long start = FIND_BY_FILE_METRIC.start();
+		try
+		{
+			return doFindModulesByClientOrPublicFile(file, clientFileAllowed, publicFileAllowed);
+		}
+		finally
+		{
+			FIND_BY_FILE_METRIC.stop(start);
+		}
+	}
+
+	@Nonnull
+	private List<GwtModule> doFindModulesByClientOrPublicFile(final VirtualFile file, final boolean clientFileAllowed, final boolean publicFileAllowed)
 	{
 		final GwtModulesFinder finder = new GwtModulesFinder(myProject);
 		VirtualFile parent = file.getParent();
@@ -179,7 +238,40 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 	//todo[nik] return all files
 	@Override
 	@Nullable
-	public XmlFile findHtmlFileByModule(@Nonnull GwtModule module)
+	public XmlFile findHtmlFileByModule(@Nonnull final GwtModule module)
+	{
+		FIND_HTML_FILE_METRIC.cacheAccess();
+		XmlFile moduleXmlFile = module.getModuleXmlFile();
+		CachedValue<XmlFile> cachedValue = moduleXmlFile.getUserData(CACHED_GWT_HTML_FILE);
+		if(cachedValue == null)
+		{
+			cachedValue = CachedValuesManager.getManager(myProject).createCachedValue(new CachedValueProvider<XmlFile>()
+			{
+				@Override
+				public Result<XmlFile> compute()
+				{
+					FIND_HTML_FILE_METRIC.cacheMiss();
+					long start = FIND_HTML_FILE_METRIC.start();
+					XmlFile htmlFile;
+					try
+					{
+						htmlFile = doFindHtmlFileByModule(module);
+					}
+					finally
+					{
+						FIND_HTML_FILE_METRIC.stop(start);
+					}
+					return Result.create(htmlFile, PsiModificationTracker.MODIFICATION_COUNT, ProjectRootManager.getInstance(myProject));
+				}
+			}, false);
+			moduleXmlFile.putUserData(CACHED_GWT_HTML_FILE, cachedValue);
+		}
+		XmlFile htmlFile = cachedValue.getValue();
+		return htmlFile != null && htmlFile.isValid() ? htmlFile : null;
+	}
+
+	@Nullable
+	private XmlFile doFindHtmlFileByModule(@Nonnull GwtModule module)
 	{
 		final Collection<VirtualFile> htmlFiles = GwtHtmlFileIndex.getHtmlFilesByModule(myProject, module.getQualifiedName());
 		if(htmlFiles.isEmpty())
@@ -217,22 +309,53 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 		return id2Tag.get(id);
 	}
 
-	private static Map<String, XmlTag> getHtmlId2TagMap(final XmlFile htmlFile)
+	/**
+	 * Id to tag map of the host page, recomputed when the page changes
+	 */
+	private Map<String, XmlTag> getHtmlId2TagMap(final XmlFile htmlFile)
 	{
+		HTML_IDS_METRIC.cacheAccess();
+		CachedValue<Map<String, XmlTag>> cachedValue = htmlFile.getUserData(CACHED_HTML_ID_TO_TAG);
+		if(cachedValue == null)
+		{
+			cachedValue = CachedValuesManager.getManager(myProject).createCachedValue(new CachedValueProvider<Map<String, XmlTag>>()
+			{
+				@Override
+				public Result<Map<String, XmlTag>> compute()
+				{
+					HTML_IDS_METRIC.cacheMiss();
+					return Result.create(Collections.unmodifiableMap(computeHtmlId2TagMap(htmlFile)), htmlFile);
+				}
+			}, false);
+			htmlFile.putUserData(CACHED_HTML_ID_TO_TAG, cachedValue);
+		}
+		return cachedValue.getValue();
+	}
+
+	private static Map<String, XmlTag> computeHtmlId2TagMap(final XmlFile htmlFile)
+	{
+		long start = HTML_IDS_METRIC.start();
 		final Map<String, XmlTag> id2Tag = new HashMap<String, XmlTag>();
-		htmlFile.accept(new XmlRecursiveElementVisitor()
+		try
 		{
-			@Override
-			public void visitXmlTag(XmlTag tag)
+			htmlFile.accept(new XmlRecursiveElementVisitor()
 			{
-				final String elementId = tag.getAttributeValue("id");
-				if(elementId != null)
+				@Override
+				public void visitXmlTag(XmlTag tag)
 				{
-					id2Tag.put(elementId, tag);
+					final String elementId = tag.getAttributeValue("id");
+					if(elementId != null)
+					{
+						id2Tag.put(elementId, tag);
+					}
+					super.visitXmlTag(tag);
 				}
-				super.visitXmlTag(tag);
-			}
-		});
+			});
+		}
+		finally
+		{
+			HTML_IDS_METRIC.stop(start);
+		}
 		return id2Tag;
 	}
 
@@ -249,8 +372,11 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 		return set.contains(inheritedModule);
 	}
 
-	private Set<GwtModule> getInheritedModules(final GwtModule gwtModule)
+	@Nonnull
+	@Override
+	public Set<GwtModule> getInheritedModules(@Nonnull final GwtModule gwtModule)
 	{
+		INHERITED_MODULES_METRIC.cacheAccess();
 		CachedValue<Set<GwtModule>> cachedValue = gwtModule.getModuleXmlFile().getUserData(CACHED_GWT_INHERITED_MODULES);
 		if(cachedValue == null)
 		{
@@ -259,12 +385,21 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 				@Override
 				public Result<Set<GwtModule>> compute()
 				{
+					INHERITED_MODULES_METRIC.cacheMiss();
+					long start = INHERITED_MODULES_METRIC.start();
 					final Set<GwtModule> set = new HashSet<GwtModule>();
 					Module module = gwtModule.getModule();
 					List<Object> dependencies = new ArrayList<Object>();
 					GlobalSearchScope scope = module != null ? GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module) : GlobalSearchScope
 							.allScope(myProject);
-					collectAllInherited(gwtModule, set, scope, dependencies);
+					try
+					{
+						collectAllInherited(gwtModule, set, scope, dependencies);
+					}
+					finally
+					{
+						INHERITED_MODULES_METRIC.stop(start);
+					}
 					dependencies.add(ProjectRootManager.getInstance(myProject));
 					return Result.create(set, dependencies.toArray(new Object[dependencies.size()]));
 				}
@@ -331,6 +466,19 @@ public class GwtModulesManagerImpl extends GwtModulesManager
 	}
 
 	private GwtModule[] findGwtModulesByName(final String qualifiedName, final GlobalSearchScope scope)
+	{
+		long start = FIND_BY_NAME_METRIC.start();
+		try
+		{
+			return doFindGwtModulesByName(qualifiedName, scope);
+		}
+		finally
+		{
+			FIND_BY_NAME_METRIC.stop(start);
+		}
+	}
+
+	private GwtModule[] doFindGwtModulesByName(final String qualifiedName, final GlobalSearchScope scope)
 	{
 		List<GwtModule> modules = new ArrayList<GwtModule>();
 		String name = qualifiedName;
@@ -0,0 +1,157 @@
+package com.intellij.gwt.impl.module;
+
+import com.intellij.gwt.base.rpc.RemoteServiceUtil;
+import com.intellij.gwt.impl.inspections.NonJREEmulationClassesInClientCodeInspection;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.application.Application;
+import consulo.application.ReadAction;
+import consulo.application.concurrent.JobLauncher;
+import consulo.application.progress.ProcessCanceledException;
+import consulo.application.progress.ProgressIndicator;
+import consulo.application.progress.Task;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.gwt.base.module.extension.GwtModuleExtensionUtil;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.logging.Logger;
+import consulo.module.Module;
+import consulo.module.ModuleManager;
+import consulo.project.DumbService;
+import consulo.project.IndexNotReadyException;
+import consulo.project.Project;
+import consulo.project.startup.PostStartupActivity;
+import consulo.ui.UIAccess;
+import consulo.xml.psi.xml.XmlFile;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Computes lazily built GWT structures (library info and JRE emulation catalogs of modules, GWT modules with their inherited module graph
+ * and host pages, RPC service names) in background as soon as indexing is finished, so the first highlighting pass finds them cached.
+ * Can be disabled with {@code -Dgwt.warmup.disabled=true}.
+ */
+@ExtensionImpl
+public class GwtProjectModelWarmUpActivity implements PostStartupActivity
+{
+	private static final Logger LOG = Logger.getInstance(GwtProjectModelWarmUpActivity.class);
+	@NonNls
+	public static final String DISABLED_PROPERTY = "gwt.warmup.disabled";
+
+	@Override
+	public void runActivity(@Nonnull Project project, @Nonnull UIAccess uiAccess)
+	{
+		Application application = Application.get();
+		if(application.isUnitTestMode() || application.isHeadlessEnvironment() || Boolean.getBoolean(DISABLED_PROPERTY))
+		{
+			return;
+		}
+
+		DumbService.getInstance(project).runWhenSmart(() -> {
+			if(project.isDisposed())
+			{
+				return;
+			}
+
+			new Task.Backgroundable(project, GwtLocalize.progressTitlePreparingGwtProjectModel(), true)
+			{
+				@Override
+				public void run(@Nonnull ProgressIndicator indicator)
+				{
+					warmUp(project, indicator);
+				}
+			}.queue();
+		});
+	}
+
+	private static void warmUp(final Project project, final ProgressIndicator indicator)
+	{
+		List<GoogleGwtModuleExtension<?>> extensions = ReadAction.compute(() -> {
+			List<GoogleGwtModuleExtension<?>> result = new ArrayList<GoogleGwtModuleExtension<?>>();
+			for(Module module : ModuleManager.getInstance(project).getModules())
+			{
+				GoogleGwtModuleExtension<?> extension = module.getExtension(GoogleGwtModuleExtension.class);
+				if(extension != null)
+				{
+					result.add(extension);
+				}
+			}
+			return result;
+		});
+		if(extensions.isEmpty())
+		{
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		final GwtModulesManager modulesManager = GwtModulesManager.getInstance(project);
+		final Queue<GwtModule> gwtModules = new ConcurrentLinkedQueue<GwtModule>();
+		try
+		{
+			indicator.setIndeterminate(false);
+			indicator.setText(GwtLocalize.progressTextPreparingGwtModules().get());
+			ReadAction.nonBlocking(() -> RemoteServiceUtil.getAsyncMethodNames(project)).wrapProgress(indicator).executeSynchronously();
+			runConcurrently(extensions, indicator, 0, 0.5, extension -> {
+				if(GwtModuleExtensionUtil.getLibraryInfo(extension) != null)
+				{
+					NonJREEmulationClassesInClientCodeInspection.getJreEmulationCatalog(extension);
+				}
+				for(GwtModule gwtModule : modulesManager.getGwtModules(extension.getModule()))
+				{
+					gwtModules.add(gwtModule);
+				}
+			});
+
+			indicator.setText(GwtLocalize.progressTextPreparingGwtHostPages().get());
+			runConcurrently(new ArrayList<GwtModule>(gwtModules), indicator, 0.5, 0.5, gwtModule -> {
+				if(!gwtModule.isValid())
+				{
+					return;
+				}
+				modulesManager.isInheritedOrSelf(gwtModule, gwtModule);
+				XmlFile hostPage = modulesManager.findHtmlFileByModule(gwtModule);
+				if(hostPage != null)
+				{
+					modulesManager.getAllIds(hostPage);
+				}
+			});
+		}
+		catch(ProcessCanceledException | IndexNotReadyException e)
+		{
+			return;
+		}
+		LOG.debug("GWT project model prepared in " + (System.currentTimeMillis() - start) + " ms, " + gwtModules.size() + " GWT module(s)");
+	}
+
+	/**
+	 * Runs {@code action} for every item in a separate non-blocking read action on the shared job pool, advancing the indicator fraction from
+	 * {@code startFraction} by {@code fractionRange}. A read action is cancelled and restarted when a write action is pending, so the warm-up
+	 * never delays typing or other model changes.
+	 */
+	private static <T> void runConcurrently(final List<T> items, final ProgressIndicator indicator, final double startFraction,
+			final double fractionRange, final Consumer<T> action)
+	{
+		if(items.isEmpty())
+		{
+			return;
+		}
+
+		final AtomicInteger done = new AtomicInteger();
+		boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(items, indicator, item -> {
+			ReadAction.nonBlocking(() -> action.accept(item)).wrapProgress(indicator).executeSynchronously();
+			indicator.setFraction(startFraction + fractionRange * done.incrementAndGet() / items.size());
+			return true;
+		});
+		if(!completed)
+		{
+			throw new ProcessCanceledException();
+		}
+	}
+}
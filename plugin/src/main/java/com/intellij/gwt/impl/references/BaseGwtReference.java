@@ -19,9 +19,9 @@ package com.intellij.gwt.impl.references;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
 import com.intellij.java.language.psi.PsiLiteralExpression;
-import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiReferenceBase;
-import consulo.virtualFileSystem.VirtualFile;
+import consulo.language.psi.resolve.ResolveCache;
 import consulo.xml.psi.xml.XmlFile;
 
 import jakarta.annotation.Nullable;
@@ -31,6 +31,8 @@ import jakarta.annotation.Nullable;
  */
 public abstract class BaseGwtReference extends PsiReferenceBase<PsiLiteralExpression>
 {
+	private static final ResolveCache.AbstractResolver<BaseGwtReference, PsiElement> RESOLVER = (reference, incompleteCode) -> reference.resolveInner();
+
 	protected final GwtModulesManager myGwtModulesManager;
 
 	public BaseGwtReference(PsiLiteralExpression element)
@@ -39,42 +41,27 @@ public abstract class BaseGwtReference extends PsiReferenceBase<PsiLiteralExpres
 		myGwtModulesManager = GwtModulesManager.getInstance(myElement.getProject());
 	}
 
+	@Override
 	@Nullable
-	public XmlFile getHtmlFileForModule()
+	public PsiElement resolve()
 	{
-		final GwtModule module = findGwtModule();
-		if(module == null)
-		{
-			return null;
-		}
+		return ResolveCache.getInstance(myElement.getProject()).resolveWithCaching(this, RESOLVER, false, false);
+	}
 
-		return myGwtModulesManager.findHtmlFileByModule(module);
+	@Nullable
+	protected abstract PsiElement resolveInner();
+
+	@Nullable
+	public XmlFile getHtmlFileForModule()
+	{
+		final GwtFileContext context = GwtFileContext.getInstance(myElement);
+		return context != null ? context.getHostPage() : null;
 	}
 
 	@Nullable
 	public GwtModule findGwtModule()
 	{
-		final PsiFile psiFile = myElement.getContainingFile();
-		if(psiFile == null)
-		{
-			return null;
-		}
-
-		VirtualFile virtualFile = psiFile.getVirtualFile();
-		if(virtualFile == null)
-		{
-			final PsiFile originalFile = psiFile.getOriginalFile();
-			if(originalFile != null)
-			{
-				virtualFile = originalFile.getVirtualFile();
-			}
-			if(virtualFile == null)
-			{
-				return null;
-			}
-		}
-
-		return myGwtModulesManager.findGwtModuleByClientSourceFile(virtualFile);
-
+		final GwtFileContext context = GwtFileContext.getInstance(myElement);
+		return context != null ? context.getGwtModule() : null;
 	}
 }
@@ -0,0 +1,128 @@
+package com.intellij.gwt.impl.references;
+
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.util.CachedValue;
+import consulo.application.util.CachedValueProvider;
+import consulo.application.util.CachedValuesManager;
+import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiModificationTracker;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.util.ModuleUtilCore;
+import consulo.module.Module;
+import consulo.module.content.ProjectRootManager;
+import consulo.project.Project;
+import consulo.util.dataholder.Key;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.xml.psi.xml.XmlFile;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * GWT environment of a file shared by all GWT references in it: the owning IDE module, the scope to resolve GWT modules in, the GWT module
+ * the file belongs to as client source and the host page of that module. Computed once per file until the next PSI or roots change.
+ */
+public class GwtFileContext
+{
+	private static final Key<CachedValue<GwtFileContext>> CONTEXT_KEY = Key.create("GWT_FILE_CONTEXT");
+
+	private final Project myProject;
+	@Nullable
+	private final Module myModule;
+	@Nonnull
+	private final GlobalSearchScope myScope;
+	@Nullable
+	private final GwtModule myGwtModule;
+	private volatile boolean myHostPageComputed;
+	private volatile XmlFile myHostPage;
+
+	private GwtFileContext(@Nonnull PsiFile file)
+	{
+		myProject = file.getProject();
+		myModule = ModuleUtilCore.findModuleForPsiElement(file);
+		myScope = myModule != null ? GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(myModule) : GlobalSearchScope.allScope(myProject);
+		myGwtModule = findGwtModule(file);
+	}
+
+	@Nullable
+	@RequiredReadAction
+	public static GwtFileContext getInstance(@Nonnull PsiElement element)
+	{
+		final PsiFile file = element.getContainingFile();
+		if(file == null)
+		{
+			return null;
+		}
+
+		CachedValue<GwtFileContext> value = file.getUserData(CONTEXT_KEY);
+		if(value == null)
+		{
+			final Project project = file.getProject();
+			value = CachedValuesManager.getManager(project).createCachedValue(new CachedValueProvider<GwtFileContext>()
+			{
+				@Override
+				public Result<GwtFileContext> compute()
+				{
+					return Result.create(new GwtFileContext(file), PsiModificationTracker.MODIFICATION_COUNT, ProjectRootManager.getInstance(project));
+				}
+			}, false);
+			file.putUserData(CONTEXT_KEY, value);
+		}
+		return value.getValue();
+	}
+
+	@Nullable
+	public Module getModule()
+	{
+		return myModule;
+	}
+
+	/**
+	 * @return scope in which GWT modules referenced from the file are searched
+	 */
+	@Nonnull
+	public GlobalSearchScope getScope()
+	{
+		return myScope;
+	}
+
+	@Nullable
+	public GwtModule getGwtModule()
+	{
+		return myGwtModule;
+	}
+
+	@Nullable
+	@RequiredReadAction
+	public XmlFile getHostPage()
+	{
+		if(!myHostPageComputed)
+		{
+			myHostPage = myGwtModule != null ? GwtModulesManager.getInstance(myProject).findHtmlFileByModule(myGwtModule) : null;
+			myHostPageComputed = true;
+		}
+		return myHostPage;
+	}
+
+	@Nullable
+	private GwtModule findGwtModule(@Nonnull PsiFile psiFile)
+	{
+		VirtualFile virtualFile = psiFile.getVirtualFile();
+		if(virtualFile == null)
+		{
+			final PsiFile originalFile = psiFile.getOriginalFile();
+			if(originalFile != null)
+			{
+				virtualFile = originalFile.getVirtualFile();
+			}
+			if(virtualFile == null)
+			{
+				return null;
+			}
+		}
+
+		return GwtModulesManager.getInstance(myProject).findGwtModuleByClientSourceFile(virtualFile);
+	}
+}
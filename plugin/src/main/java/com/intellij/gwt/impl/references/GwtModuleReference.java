@@ -1,23 +1,26 @@
 package com.intellij.gwt.impl.references;
 
+import com.intellij.gwt.base.module.index.GwtModuleFileIndex;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiReferenceBase;
+import consulo.language.psi.resolve.ResolveCache;
 import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.language.util.ModuleUtilCore;
 import consulo.module.Module;
 import consulo.util.collection.ArrayUtil;
 
 import jakarta.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @author nik
  */
 public abstract class GwtModuleReference<T extends PsiElement> extends PsiReferenceBase<T>
 {
+	private static final ResolveCache.AbstractResolver<GwtModuleReference<?>, PsiElement> RESOLVER = (reference, incompleteCode) -> reference
+			.resolveInner();
+
 	private GwtModulesManager myGwtModulesManager;
 
 	public GwtModuleReference(T element)
@@ -29,30 +32,31 @@ public abstract class GwtModuleReference<T extends PsiElement> extends PsiRefere
 	@Nullable
 	public Module getModule()
 	{
-		return ModuleUtilCore.findModuleForPsiElement(myElement);
+		final GwtFileContext context = GwtFileContext.getInstance(myElement);
+		return context != null ? context.getModule() : ModuleUtilCore.findModuleForPsiElement(myElement);
 	}
 
 	@Override
 	public Object[] getVariants()
 	{
-		List<String> names = new ArrayList<String>();
-		for(GwtModule module : myGwtModulesManager.getAllGwtModules())
-		{
-			names.add(module.getQualifiedName());
-		}
-		return ArrayUtil.toStringArray(names);
+		return ArrayUtil.toStringArray(GwtModuleFileIndex.getModuleNames(myElement.getProject(), GlobalSearchScope.allScope(myElement.getProject())));
 	}
 
 	@Override
 	@Nullable
 	public PsiElement resolve()
+	{
+		return ResolveCache.getInstance(myElement.getProject()).resolveWithCaching(this, RESOLVER, false, false);
+	}
+
+	@Nullable
+	private PsiElement resolveInner()
 	{
 		String moduleName = getStringValue();
 		if(moduleName != null)
 		{
-			final Module module = getModule();
-			final GlobalSearchScope scope = module != null ? GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module) : GlobalSearchScope.allScope
-					(myElement.getProject());
+			final GwtFileContext context = GwtFileContext.getInstance(myElement);
+			final GlobalSearchScope scope = context != null ? context.getScope() : GlobalSearchScope.allScope(myElement.getProject());
 			final GwtModule gwtModule = myGwtModulesManager.findGwtModuleByName(moduleName, scope);
 			if(gwtModule != null)
 			{
@@ -104,7 +104,7 @@ public class GwtReferenceContributor extends PsiReferenceContributor
 		}
 
 		@Override
-		public PsiElement resolve()
+		protected PsiElement resolveInner()
 		{
 			final GwtModule module = findGwtModule();
 			if(module != null)
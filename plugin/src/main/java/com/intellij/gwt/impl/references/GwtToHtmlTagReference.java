@@ -33,7 +33,7 @@ public class GwtToHtmlTagReference extends BaseGwtReference
 	}
 
 	@Override
-	public PsiElement resolve()
+	protected PsiElement resolveInner()
 	{
 		final Object value = myElement.getValue();
 		if(!(value instanceof String))
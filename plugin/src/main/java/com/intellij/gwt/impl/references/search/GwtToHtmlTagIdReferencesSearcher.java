@@ -16,19 +16,27 @@
 
 package com.intellij.gwt.impl.references.search;
 
+import com.intellij.gwt.base.module.index.GwtRootPanelIdIndex;
+import com.intellij.gwt.impl.references.GwtToHtmlTagReference;
 import com.intellij.gwt.module.GwtModulesManager;
 import com.intellij.gwt.module.model.GwtModule;
-import com.intellij.gwt.impl.references.GwtToHtmlTagReference;
 import com.intellij.java.language.psi.PsiLiteralExpression;
 import consulo.annotation.access.RequiredReadAction;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.application.AccessRule;
+import consulo.content.scope.SearchScope;
 import consulo.language.Language;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiFile;
+import consulo.language.psi.PsiManager;
 import consulo.language.psi.PsiReference;
-import consulo.language.psi.search.*;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.search.ReferencesSearch;
+import consulo.language.psi.search.ReferencesSearchQueryExecutor;
+import consulo.language.psi.util.PsiTreeUtil;
+import consulo.util.lang.Pair;
 import consulo.virtualFileSystem.VirtualFile;
+import consulo.virtualFileSystem.util.VirtualFileUtil;
 import consulo.xml.lang.html.HTMLLanguage;
 import consulo.xml.lang.xhtml.XHTMLLanguage;
 import consulo.xml.psi.xml.XmlAttribute;
@@ -36,6 +44,7 @@ import consulo.xml.psi.xml.XmlAttributeValue;
 import consulo.xml.psi.xml.XmlTag;
 import jakarta.annotation.Nonnull;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -89,24 +98,43 @@ public class GwtToHtmlTagIdReferencesSearcher implements ReferencesSearchQueryEx
             return true;
         }
 
-        PsiSearchHelper searchHelper = PsiSearchHelper.SERVICE.getInstance(element.getProject());
-        return searchHelper.processElementsWithWord(
-            (element1, offsetInElement) -> {
-                if (!(element1 instanceof PsiLiteralExpression)) {
-                    return true;
+        SearchScope searchScope = queryParameters.getEffectiveSearchScope();
+        GlobalSearchScope indexScope = searchScope instanceof GlobalSearchScope globalScope ? globalScope : GlobalSearchScope.allScope(file.getProject());
+        List<VirtualFile> sourceRoots = gwtModule.getSourceRoots();
+        PsiManager psiManager = PsiManager.getInstance(file.getProject());
+        for (Pair<VirtualFile, int[]> callSites : GwtRootPanelIdIndex.getCallSites(id, indexScope)) {
+            VirtualFile javaFile = callSites.getFirst();
+            if (!searchScope.contains(javaFile) || !isUnderRoots(javaFile, sourceRoots)) {
+                continue;
+            }
+
+            PsiFile psiFile = psiManager.findFile(javaFile);
+            if (psiFile == null) {
+                continue;
+            }
+
+            for (int offset : callSites.getSecond()) {
+                PsiLiteralExpression literal = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), PsiLiteralExpression.class, false);
+                if (literal == null) {
+                    continue;
                 }
 
-                for (PsiReference reference : element1.getReferences()) {
+                for (PsiReference reference : literal.getReferences()) {
                     if (reference instanceof GwtToHtmlTagReference && reference.isReferenceTo(tag) && !consumer.test(reference)) {
                         return false;
                     }
                 }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUnderRoots(VirtualFile file, List<VirtualFile> roots) {
+        for (VirtualFile root : roots) {
+            if (VirtualFileUtil.isAncestor(root, file, false)) {
                 return true;
-            },
-            queryParameters.getScope(),
-            id,
-            UsageSearchContext.IN_STRINGS,
-            true
-        );
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,59 @@
+package com.intellij.gwt.impl.telemetry;
+
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.annotation.component.ActionImpl;
+import consulo.annotation.component.ActionParentRef;
+import consulo.annotation.component.ActionRef;
+import consulo.application.AllIcons;
+import consulo.container.boot.ContainerPathManager;
+import consulo.fileEditor.FileEditorManager;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.platform.base.localize.CommonLocalize;
+import consulo.project.Project;
+import consulo.ui.annotation.RequiredUIAccess;
+import consulo.ui.ex.action.AnAction;
+import consulo.ui.ex.action.AnActionEvent;
+import consulo.ui.ex.awt.Messages;
+import consulo.util.io.FileUtil;
+import consulo.virtualFileSystem.LocalFileSystem;
+import consulo.virtualFileSystem.VirtualFile;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Writes {@link GwtTelemetry#toJson() collected GWT metrics} to a file in the log directory and opens it.
+ */
+@ActionImpl(id = "GWT.DumpTelemetry", parents = @ActionParentRef(@ActionRef(id = "ToolsMenu")))
+public class DumpGwtTelemetryAction extends AnAction {
+    @NonNls
+    private static final String DUMP_FILE_PREFIX = "gwt-telemetry-";
+
+    public DumpGwtTelemetryAction() {
+        super(GwtLocalize.actionDumpGwtTelemetryText(), GwtLocalize.actionDumpGwtTelemetryDescription(), AllIcons.Actions.Menu_saveall);
+    }
+
+    @RequiredUIAccess
+    @Override
+    public void actionPerformed(@Nonnull AnActionEvent e) {
+        Project project = e.getData(Project.KEY);
+        @NonNls String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(ContainerPathManager.get().getLogPath(), DUMP_FILE_PREFIX + timestamp + ".json");
+        try {
+            FileUtil.writeToFile(file, GwtTelemetry.toJson());
+        }
+        catch (IOException ex) {
+            Messages.showErrorDialog(project, GwtLocalize.errorMessageCannotWriteGwtTelemetry0(ex.getMessage()).get(), CommonLocalize.titleError().get());
+            return;
+        }
+
+        VirtualFile virtualFile = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(file);
+        if (project != null && virtualFile != null) {
+            FileEditorManager.getInstance(project).openFile(virtualFile, true);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.intellij.gwt.impl.telemetry;
+
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.application.AllIcons;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.ui.annotation.RequiredUIAccess;
+import consulo.ui.ex.action.*;
+import consulo.ui.ex.awt.ColumnInfo;
+import consulo.ui.ex.awt.ScrollPaneFactory;
+import consulo.ui.ex.awt.SimpleToolWindowPanel;
+import consulo.ui.ex.awt.table.ListTableModel;
+import consulo.ui.ex.awt.table.TableView;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+/**
+ * Table of {@link GwtTelemetry} metrics with actions to refresh, reset and dump them.
+ */
+public class GwtTelemetryPanel extends SimpleToolWindowPanel {
+    @NonNls
+    private static final String TOOLBAR_PLACE = "GwtTelemetry";
+    private final ListTableModel<GwtMetric> myTableModel;
+
+    public GwtTelemetryPanel() {
+        super(true, true);
+        final ColumnInfo[] columns = {
+            NAME_COLUMN,
+            COUNT_COLUMN,
+            MEAN_COLUMN,
+            MAX_COLUMN,
+            TOTAL_COLUMN,
+            HISTOGRAM_COLUMN,
+            CACHE_HIT_RATIO_COLUMN
+        };
+        myTableModel = new ListTableModel<GwtMetric>(columns, GwtTelemetry.getMetrics(), 0);
+        TableView<GwtMetric> tableView = new TableView<GwtMetric>(myTableModel);
+        setContent(ScrollPaneFactory.createScrollPane(tableView));
+
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new RefreshAction());
+        group.add(new ResetAction());
+        group.add(ActionManager.getInstance().getAction("GWT.DumpTelemetry"));
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(TOOLBAR_PLACE, group, true);
+        toolbar.setTargetComponent(tableView);
+        setToolbar(toolbar.getComponent());
+    }
+
+    private void refresh() {
+        myTableModel.setItems(GwtTelemetry.getMetrics());
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1000000.0);
+    }
+
+    private class RefreshAction extends AnAction {
+        private RefreshAction() {
+            super(GwtLocalize.actionRefreshGwtTelemetryText(), GwtLocalize.actionRefreshGwtTelemetryText(), AllIcons.Actions.Refresh);
+        }
+
+        @RequiredUIAccess
+        @Override
+        public void actionPerformed(@Nonnull AnActionEvent e) {
+            refresh();
+        }
+    }
+
+    private class ResetAction extends AnAction {
+        private ResetAction() {
+            super(GwtLocalize.actionResetGwtTelemetryText(), GwtLocalize.actionResetGwtTelemetryText(), AllIcons.Actions.GC);
+        }
+
+        @RequiredUIAccess
+        @Override
+        public void actionPerformed(@Nonnull AnActionEvent e) {
+            GwtTelemetry.reset();
+            refresh();
+        }
+    }
+
+    private static final ColumnInfo<GwtMetric, String> NAME_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameMetric().get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            return metric.getName();
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> COUNT_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameCount().get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            return String.valueOf(metric.getCount());
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> MEAN_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameMeanMs().get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            return formatMillis(metric.getMeanNanos());
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> MAX_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameMaxMs().get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            return formatMillis(metric.getMaxNanos());
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> TOTAL_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameTotalMs().get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            return formatMillis(metric.getTotalNanos());
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> HISTOGRAM_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameLatencyHistogram()
+        .get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            StringBuilder builder = new StringBuilder();
+            for (long count : metric.getHistogram()) {
+                if (builder.length() > 0) {
+                    builder.append(" / ");
+                }
+                builder.append(count);
+            }
+            return builder.toString();
+        }
+    };
+
+    private static final ColumnInfo<GwtMetric, String> CACHE_HIT_RATIO_COLUMN = new ColumnInfo<GwtMetric, String>(GwtLocalize.tableColumnNameCacheHitRatio()
+        .get()) {
+        @Override
+        public String valueOf(final GwtMetric metric) {
+            double ratio = metric.getCacheHitRatio();
+            return ratio < 0 ? "" : String.format("%.1f%%", ratio * 100);
+        }
+    };
+}
@@ -0,0 +1,75 @@
+package com.intellij.gwt.impl.telemetry;
+
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.google.gwt.base.icon.GwtIconGroup;
+import consulo.google.gwt.localize.GwtLocalize;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.localize.LocalizeValue;
+import consulo.module.Module;
+import consulo.module.ModuleManager;
+import consulo.project.Project;
+import consulo.project.ui.wm.ToolWindowFactory;
+import consulo.ui.annotation.RequiredUIAccess;
+import consulo.ui.ex.content.Content;
+import consulo.ui.ex.content.ContentFactory;
+import consulo.ui.ex.toolWindow.ToolWindow;
+import consulo.ui.ex.toolWindow.ToolWindowAnchor;
+import consulo.ui.image.Image;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+@ExtensionImpl
+public class GwtTelemetryToolWindowFactory implements ToolWindowFactory {
+    @NonNls
+    public static final String ID = "GWT Telemetry";
+
+    @Nonnull
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @RequiredUIAccess
+    @Override
+    public void createToolWindowContent(@Nonnull Project project, @Nonnull ToolWindow toolWindow) {
+        Content content = ContentFactory.getInstance().createContent(new GwtTelemetryPanel(), "", false);
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    @Override
+    public boolean shouldBeAvailable(@Nonnull Project project) {
+        if (!GwtTelemetry.isEnabled()) {
+            return false;
+        }
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            if (module.getExtension(GoogleGwtModuleExtension.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isDoNotActivateOnStart() {
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public ToolWindowAnchor getAnchor() {
+        return ToolWindowAnchor.BOTTOM;
+    }
+
+    @Nonnull
+    @Override
+    public Image getIcon() {
+        return GwtIconGroup.gwt();
+    }
+
+    @Nonnull
+    @Override
+    public LocalizeValue getDisplayName() {
+        return GwtLocalize.toolwindowTitleGwtTelemetry();
+    }
+}
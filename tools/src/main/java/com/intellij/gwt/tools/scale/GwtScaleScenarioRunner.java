@@ -0,0 +1,192 @@
+package com.intellij.gwt.tools.scale;
+
+import com.intellij.gwt.base.inspections.GwtBatchInspectionService;
+import com.intellij.gwt.base.telemetry.GwtMetric;
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import com.intellij.gwt.module.GwtModulesManager;
+import com.intellij.gwt.module.model.GwtModule;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.application.ReadAction;
+import consulo.application.progress.ProgressIndicator;
+import consulo.document.util.TextRange;
+import consulo.gwt.module.extension.GoogleGwtModuleExtension;
+import consulo.language.inject.InjectedLanguageManager;
+import consulo.language.psi.*;
+import consulo.module.Module;
+import consulo.module.ModuleManager;
+import consulo.module.content.ModuleRootManager;
+import consulo.project.Project;
+import consulo.util.lang.Pair;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.xml.psi.xml.XmlFile;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs typical GWT support workloads over the opened project, e.g. one produced by {@link GwtSyntheticProjectGenerator}. The first run of a
+ * scenario is recorded in the {@code scenario.<name>.cold} metric of {@link GwtTelemetry} and the following runs in
+ * {@code scenario.<name>.warm}, so a dump of the telemetry after the run contains cold and warm times of each scenario and the metrics of the
+ * subsystems it exercised.
+ * <ul>
+ * <li>{@code modules} - lookup of all GWT modules and their inheritance graph</li>
+ * <li>{@code hostPages} - search of host pages and their element ids</li>
+ * <li>{@code clientFiles} - search of GWT modules by client source files</li>
+ * <li>{@code references} - resolve of all references in GWT files, including JSNI references</li>
+ * <li>{@code inspections} - batch run of all GWT inspections</li>
+ * </ul>
+ */
+public class GwtScaleScenarioRunner {
+    @NonNls
+    private static final String METRIC_PREFIX = "scenario.";
+    @NonNls
+    private static final String COLD_SUFFIX = ".cold";
+    @NonNls
+    private static final String WARM_SUFFIX = ".warm";
+
+    private final Project myProject;
+
+    public GwtScaleScenarioRunner(@Nonnull Project project) {
+        myProject = project;
+    }
+
+    /**
+     * Runs all scenarios the given number of times. The first iteration runs with caches empty after startup and is recorded separately from
+     * the following ones.
+     */
+    public void run(@Nonnull ProgressIndicator indicator, int iterations) {
+        GwtTelemetry.reset();
+        for (int i = 0; i < iterations; i++) {
+            indicator.setText("GWT scale scenarios: iteration " + (i + 1) + " of " + iterations);
+            List<GwtModule> gwtModules = ReadAction.compute(() -> getGwtModules());
+            List<VirtualFile> files = ReadAction.compute(() -> collectFiles(indicator));
+
+            String suffix = i == 0 ? COLD_SUFFIX : WARM_SUFFIX;
+            runScenario("modules", suffix, () -> ReadAction.run(() -> runModules(gwtModules)));
+            runScenario("hostPages", suffix, () -> ReadAction.run(() -> runHostPages(gwtModules)));
+            runScenario("clientFiles", suffix, () -> ReadAction.run(() -> runClientFiles(files)));
+            runScenario("references", suffix, () -> runReferences(files, indicator));
+            runScenario("inspections", suffix, () -> GwtBatchInspectionService.getInstance(myProject).inspect(indicator, false));
+        }
+    }
+
+    private static void runScenario(@NonNls String name, String suffix, Runnable scenario) {
+        GwtMetric metric = GwtTelemetry.getMetric(METRIC_PREFIX + name + suffix);
+        long start = metric.start();
+        try {
+            scenario.run();
+        }
+        finally {
+            metric.stop(start);
+        }
+    }
+
+    @RequiredReadAction
+    private List<GwtModule> getGwtModules() {
+        List<GwtModule> result = new ArrayList<GwtModule>();
+        for (GwtModule gwtModule : GwtModulesManager.getInstance(myProject).getAllGwtModules()) {
+            result.add(gwtModule);
+        }
+        return result;
+    }
+
+    /**
+     * Collects content files of modules with GWT support: Java sources, module descriptors, host pages and properties.
+     */
+    @RequiredReadAction
+    private List<VirtualFile> collectFiles(ProgressIndicator indicator) {
+        List<VirtualFile> files = new ArrayList<VirtualFile>();
+        for (Module module : ModuleManager.getInstance(myProject).getModules()) {
+            if (module.getExtension(GoogleGwtModuleExtension.class) == null) {
+                continue;
+            }
+
+            ModuleRootManager.getInstance(module).getFileIndex().iterateContent(file -> {
+                indicator.checkCanceled();
+                String extension = file.getExtension();
+                if (!file.isDirectory() && ("java".equals(extension) || "xml".equals(extension) || "html".equals(extension) ||
+                    "properties".equals(extension))) {
+                    files.add(file);
+                }
+                return true;
+            });
+        }
+        return files;
+    }
+
+    @RequiredReadAction
+    private void runModules(List<GwtModule> gwtModules) {
+        GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+        gwtModulesManager.getAllGwtModules();
+        for (GwtModule gwtModule : gwtModules) {
+            XmlFile moduleXmlFile = gwtModule.getModuleXmlFile();
+            if (moduleXmlFile != null) {
+                gwtModulesManager.findGwtModuleByName(gwtModule.getQualifiedName(), moduleXmlFile.getResolveScope());
+            }
+            gwtModulesManager.isInheritedOrSelf(gwtModule, gwtModules.get(0));
+        }
+    }
+
+    @RequiredReadAction
+    private void runHostPages(List<GwtModule> gwtModules) {
+        GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+        for (GwtModule gwtModule : gwtModules) {
+            XmlFile htmlFile = gwtModulesManager.findHtmlFileByModule(gwtModule);
+            if (htmlFile != null) {
+                for (String id : gwtModulesManager.getAllIds(htmlFile)) {
+                    gwtModulesManager.findTagById(htmlFile, id);
+                }
+            }
+        }
+    }
+
+    @RequiredReadAction
+    private void runClientFiles(List<VirtualFile> files) {
+        GwtModulesManager gwtModulesManager = GwtModulesManager.getInstance(myProject);
+        for (VirtualFile file : files) {
+            if ("java".equals(file.getExtension())) {
+                gwtModulesManager.findGwtModuleByClientSourceFile(file);
+            }
+        }
+    }
+
+    /**
+     * Resolves references file by file, each file in its own read action so write actions are not blocked for the whole scenario.
+     */
+    private void runReferences(List<VirtualFile> files, ProgressIndicator indicator) {
+        PsiManager psiManager = PsiManager.getInstance(myProject);
+        for (VirtualFile file : files) {
+            indicator.checkCanceled();
+            ReadAction.run(() -> {
+                PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+                if (psiFile != null) {
+                    resolveReferences(psiFile);
+                }
+            });
+        }
+    }
+
+    @RequiredReadAction
+    private void resolveReferences(PsiElement root) {
+        InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(myProject);
+        root.accept(new PsiRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitElement(PsiElement element) {
+                for (PsiReference reference : element.getReferences()) {
+                    reference.resolve();
+                }
+                if (element instanceof PsiLanguageInjectionHost) {
+                    List<Pair<PsiElement, TextRange>> injectedFiles = injectedLanguageManager.getInjectedPsiFiles(element);
+                    if (injectedFiles != null) {
+                        for (Pair<PsiElement, TextRange> pair : injectedFiles) {
+                            resolveReferences(pair.getFirst());
+                        }
+                    }
+                }
+                super.visitElement(element);
+            }
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.intellij.gwt.tools.scale;
+
+import com.intellij.gwt.base.telemetry.GwtTelemetry;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.application.Application;
+import consulo.application.progress.EmptyProgressIndicator;
+import consulo.logging.Logger;
+import consulo.project.DumbService;
+import consulo.project.Project;
+import consulo.project.startup.PostStartupActivity;
+import consulo.ui.UIAccess;
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Headless entry point for {@link GwtScaleScenarioRunner}. When the IDE is started in headless mode with {@code -Dgwt.scenarios.report=<file>}
+ * the scenarios are run over the opened project as soon as indexing is finished, the telemetry is written to the file as JSON and the
+ * application exits. {@code -Dgwt.scenarios.iterations=<count>} sets the number of runs, 2 by default to get both cold and warm timings.
+ */
+@ExtensionImpl
+public class GwtScaleScenarioStartupActivity implements PostStartupActivity {
+    private static final Logger LOG = Logger.getInstance(GwtScaleScenarioStartupActivity.class);
+    @NonNls
+    public static final String REPORT_PROPERTY = "gwt.scenarios.report";
+    @NonNls
+    public static final String ITERATIONS_PROPERTY = "gwt.scenarios.iterations";
+
+    @Override
+    public void runActivity(@Nonnull Project project, @Nonnull UIAccess uiAccess) {
+        String reportPath = System.getProperty(REPORT_PROPERTY);
+        if (reportPath == null || !Application.get().isHeadlessEnvironment()) {
+            return;
+        }
+
+        DumbService.getInstance(project).runWhenSmart(() -> Application.get().executeOnPooledThread(() -> {
+            try {
+                runScenarios(project, new File(reportPath));
+            }
+            finally {
+                Application.get().invokeLater(() -> Application.get().exit());
+            }
+        }));
+    }
+
+    private static void runScenarios(Project project, File reportFile) {
+        int iterations = Math.max(1, Integer.getInteger(ITERATIONS_PROPERTY, 2));
+        new GwtScaleScenarioRunner(project).run(new EmptyProgressIndicator(), iterations);
+
+        File parent = reportFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), StandardCharsets.UTF_8))) {
+            writer.write(GwtTelemetry.toJson());
+        }
+        catch (IOException e) {
+            LOG.error("Cannot write GWT scenarios report to " + reportFile, e);
+            return;
+        }
+        LOG.info("GWT scale scenarios finished, " + iterations + " iteration(s), telemetry written to " + reportFile);
+    }
+}
@@ -0,0 +1,402 @@
+package com.intellij.gwt.tools.scale;
+
+import jakarta.annotation.Nonnull;
+import org.jetbrains.annotations.NonNls;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates a synthetic Maven project with GWT modules for scale testing of GWT support. The content is fully determined by the
+ * {@link Settings}, so a workspace can be reproduced from the generator arguments alone. Every Maven module uses
+ * {@code gwt-maven-plugin}, so GWT support is enabled when the project is imported.
+ * <p/>
+ * Every GWT module consists of a module file, a host page, an entry point and the given number of RPC services (synchronous and
+ * asynchronous interfaces and a servlet), i18n bundles (interface, default and localized properties) and classes with JSNI methods
+ * referencing Java members. A module inherits the previous module in its Maven module, chains of inheritance are {@link Settings#inheritsDepth}
+ * long. A GWT module produces {@code 3 + 3 * services + bundles * (locales + 2) + jsniClasses} files, e.g. 1000 modules with the default
+ * settings produce about 100k files.
+ * <pre>
+ * java -cp &lt;tools jar&gt; com.intellij.gwt.tools.scale.GwtSyntheticProjectGenerator --modules=1000 --maven-modules=10 &lt;output dir&gt;
+ * </pre>
+ */
+@SuppressWarnings({"HardCodedStringLiteral"})
+public class GwtSyntheticProjectGenerator {
+    @NonNls
+    public static final String ROOT_PACKAGE = "synthetic";
+    private static final String[] LOCALES = {
+        "de", "fr", "es", "it", "pt", "nl", "sv", "da", "fi", "no", "pl", "cs",
+        "hu", "ro", "ru", "uk", "tr", "el", "ja", "ko", "zh", "ar", "he", "hi"
+    };
+    private static final int SERVICE_METHODS = 5;
+    private static final int BUNDLE_MESSAGES = 20;
+    private static final int JSNI_MEMBERS = 10;
+    private static final int HOST_PAGE_ELEMENTS = 10;
+
+    private final Settings mySettings;
+    private final File myRoot;
+    private int myFileCount;
+
+    public GwtSyntheticProjectGenerator(@Nonnull Settings settings, @Nonnull File root) {
+        mySettings = settings;
+        myRoot = root;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Settings settings = new Settings();
+        File root = null;
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                root = new File(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq == -1) {
+                usage("Value expected: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            int value = Integer.parseInt(arg.substring(eq + 1));
+            switch (name) {
+                case "modules":
+                    settings.modules = value;
+                    break;
+                case "maven-modules":
+                    settings.mavenModules = value;
+                    break;
+                case "inherits-depth":
+                    settings.inheritsDepth = value;
+                    break;
+                case "services":
+                    settings.services = value;
+                    break;
+                case "bundles":
+                    settings.bundles = value;
+                    break;
+                case "locales":
+                    settings.locales = value;
+                    break;
+                case "jsni-classes":
+                    settings.jsniClasses = value;
+                    break;
+                default:
+                    usage("Unknown option: " + arg);
+            }
+        }
+        if (root == null) {
+            usage("Output directory expected");
+        }
+
+        int count = new GwtSyntheticProjectGenerator(settings, root).generate();
+        System.out.println(count + " files generated in " + root.getAbsolutePath());
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: GwtSyntheticProjectGenerator [--modules=N] [--maven-modules=N] [--inherits-depth=N] [--services=N] [--bundles=N]" +
+            " [--locales=N] [--jsni-classes=N] <output dir>");
+        System.exit(1);
+    }
+
+    /**
+     * @return number of generated files
+     */
+    public int generate() throws IOException {
+        mySettings.validate();
+        myFileCount = 0;
+        generateParentPom();
+        int perMavenModule = (mySettings.modules + mySettings.mavenModules - 1) / mySettings.mavenModules;
+        for (int mavenModule = 0; mavenModule < mySettings.mavenModules; mavenModule++) {
+            File moduleRoot = new File(myRoot, getMavenModuleName(mavenModule));
+            generateModulePom(moduleRoot, mavenModule);
+            int first = mavenModule * perMavenModule;
+            int last = Math.min(mySettings.modules, first + perMavenModule);
+            for (int module = first; module < last; module++) {
+                boolean inheritsPrevious = module > first && (module - first) % mySettings.inheritsDepth != 0;
+                generateGwtModule(moduleRoot, module, inheritsPrevious);
+            }
+        }
+        return myFileCount;
+    }
+
+    private void generateParentPom() throws IOException {
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < mySettings.mavenModules; i++) {
+            modules.append("    <module>").append(getMavenModuleName(i)).append("</module>\n");
+        }
+        write(new File(myRoot, "pom.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <groupId>" + ROOT_PACKAGE + "</groupId>\n" +
+            "  <artifactId>" + ROOT_PACKAGE + "-parent</artifactId>\n" +
+            "  <version>1.0</version>\n" +
+            "  <packaging>pom</packaging>\n" +
+            "  <!-- " + mySettings + " -->\n" +
+            "  <properties>\n" +
+            "    <gwt.version>" + mySettings.gwtVersion + "</gwt.version>\n" +
+            "  </properties>\n" +
+            "  <modules>\n" + modules +
+            "  </modules>\n" +
+            "</project>\n");
+    }
+
+    private void generateModulePom(File moduleRoot, int mavenModule) throws IOException {
+        write(new File(moduleRoot, "pom.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <parent>\n" +
+            "    <groupId>" + ROOT_PACKAGE + "</groupId>\n" +
+            "    <artifactId>" + ROOT_PACKAGE + "-parent</artifactId>\n" +
+            "    <version>1.0</version>\n" +
+            "  </parent>\n" +
+            "  <artifactId>" + getMavenModuleName(mavenModule) + "</artifactId>\n" +
+            "  <packaging>war</packaging>\n" +
+            "  <dependencies>\n" +
+            "    <dependency>\n" +
+            "      <groupId>com.google.gwt</groupId>\n" +
+            "      <artifactId>gwt-user</artifactId>\n" +
+            "      <version>${gwt.version}</version>\n" +
+            "      <scope>provided</scope>\n" +
+            "    </dependency>\n" +
+            "    <dependency>\n" +
+            "      <groupId>com.google.gwt</groupId>\n" +
+            "      <artifactId>gwt-servlet</artifactId>\n" +
+            "      <version>${gwt.version}</version>\n" +
+            "    </dependency>\n" +
+            "  </dependencies>\n" +
+            "  <build>\n" +
+            "    <plugins>\n" +
+            "      <plugin>\n" +
+            "        <groupId>org.codehaus.mojo</groupId>\n" +
+            "        <artifactId>gwt-maven-plugin</artifactId>\n" +
+            "        <version>${gwt.version}</version>\n" +
+            "      </plugin>\n" +
+            "    </plugins>\n" +
+            "  </build>\n" +
+            "</project>\n");
+    }
+
+    private void generateGwtModule(File moduleRoot, int module, boolean inheritsPrevious) throws IOException {
+        String packageName = getPackageName(module);
+        String packagePath = packageName.replace('.', '/');
+        File javaDir = new File(moduleRoot, "src/main/java/" + packagePath);
+        File resourcesDir = new File(moduleRoot, "src/main/resources/" + packagePath);
+        String moduleName = getModuleShortName(module);
+
+        StringBuilder moduleXml = new StringBuilder();
+        moduleXml.append("<module>\n");
+        moduleXml.append("  <inherits name=\"com.google.gwt.user.User\"/>\n");
+        if (mySettings.bundles > 0 && mySettings.locales > 0) {
+            moduleXml.append("  <inherits name=\"com.google.gwt.i18n.I18N\"/>\n");
+        }
+        if (inheritsPrevious) {
+            moduleXml.append("  <inherits name=\"").append(getPackageName(module - 1)).append('.').append(getModuleShortName(module - 1)).append("\"/>\n");
+        }
+        for (int locale = 0; locale < mySettings.locales; locale++) {
+            moduleXml.append("  <extend-property name=\"locale\" values=\"").append(LOCALES[locale]).append("\"/>\n");
+        }
+        moduleXml.append("  <entry-point class=\"").append(packageName).append(".client.").append(moduleName).append("EntryPoint\"/>\n");
+        for (int service = 0; service < mySettings.services; service++) {
+            moduleXml.append("  <servlet path=\"/service").append(service).append("\" class=\"").append(packageName).append(".server.Service")
+                .append(service).append("Impl\"/>\n");
+        }
+        moduleXml.append("</module>\n");
+        write(new File(resourcesDir, moduleName + ".gwt.xml"), moduleXml.toString());
+
+        generateHostPage(new File(resourcesDir, "public/" + moduleName + ".html"), packageName + "." + moduleName, module);
+        generateEntryPoint(new File(javaDir, "client/" + moduleName + "EntryPoint.java"), packageName, moduleName, module);
+        for (int service = 0; service < mySettings.services; service++) {
+            generateService(javaDir, packageName, service);
+        }
+        for (int bundle = 0; bundle < mySettings.bundles; bundle++) {
+            generateBundle(javaDir, resourcesDir, packageName, bundle);
+        }
+        for (int jsniClass = 0; jsniClass < mySettings.jsniClasses; jsniClass++) {
+            generateJsniClass(new File(javaDir, "client/Jsni" + jsniClass + ".java"), packageName, jsniClass);
+        }
+    }
+
+    private void generateHostPage(File file, String qualifiedModuleName, int module) throws IOException {
+        StringBuilder html = new StringBuilder();
+        html.append("<html>\n<head>\n");
+        html.append("  <meta name=\"gwt:module\" content=\"").append(qualifiedModuleName).append("\">\n");
+        html.append("  <script type=\"text/javascript\" language=\"javascript\" src=\"").append(qualifiedModuleName).append(".nocache.js\"></script>\n");
+        html.append("</head>\n<body>\n");
+        for (int i = 0; i < HOST_PAGE_ELEMENTS; i++) {
+            html.append("  <div id=\"").append(getElementId(module, i)).append("\"></div>\n");
+        }
+        html.append("</body>\n</html>\n");
+        write(file, html.toString());
+    }
+
+    private void generateEntryPoint(File file, String packageName, String moduleName, int module) throws IOException {
+        StringBuilder java = new StringBuilder();
+        java.append("package ").append(packageName).append(".client;\n\n");
+        java.append("import com.google.gwt.core.client.EntryPoint;\n");
+        java.append("import com.google.gwt.core.client.GWT;\n");
+        java.append("import com.google.gwt.user.client.rpc.AsyncCallback;\n");
+        java.append("import com.google.gwt.user.client.rpc.ServiceDefTarget;\n");
+        java.append("import com.google.gwt.user.client.ui.Label;\n");
+        java.append("import com.google.gwt.user.client.ui.RootPanel;\n\n");
+        java.append("public class ").append(moduleName).append("EntryPoint implements EntryPoint {\n");
+        java.append("    public void onModuleLoad() {\n");
+        for (int i = 0; i < HOST_PAGE_ELEMENTS; i++) {
+            java.append("        RootPanel.get(\"").append(getElementId(module, i)).append("\").add(new Label(\"").append(i).append("\"));\n");
+        }
+        for (int service = 0; service < mySettings.services; service++) {
+            java.append("        Service").append(service).append("Async service").append(service).append(" = (Service").append(service)
+                .append("Async) GWT.create(Service").append(service).append(".class);\n");
+            java.append("        ((ServiceDefTarget) service").append(service).append(").setServiceEntryPoint(GWT.getModuleBaseURL() + \"service")
+                .append(service).append("\");\n");
+            java.append("        service").append(service).append(".call0(\"value\", 0, new AsyncCallback<String>() {\n");
+            java.append("            public void onFailure(Throwable caught) {\n            }\n\n");
+            java.append("            public void onSuccess(String result) {\n            }\n");
+            java.append("        });\n");
+        }
+        for (int bundle = 0; bundle < mySettings.bundles; bundle++) {
+            java.append("        Messages").append(bundle).append(" messages").append(bundle).append(" = (Messages").append(bundle)
+                .append(") GWT.create(Messages").append(bundle).append(".class);\n");
+            java.append("        RootPanel.get().add(new Label(messages").append(bundle).append(".message0(\"value\")));\n");
+        }
+        for (int jsniClass = 0; jsniClass < mySettings.jsniClasses; jsniClass++) {
+            java.append("        new Jsni").append(jsniClass).append("().run0(\"value\", 0);\n");
+        }
+        java.append("    }\n}\n");
+        write(file, java.toString());
+    }
+
+    private void generateService(File javaDir, String packageName, int service) throws IOException {
+        String name = "Service" + service;
+        StringBuilder sync = new StringBuilder();
+        StringBuilder async = new StringBuilder();
+        StringBuilder impl = new StringBuilder();
+        sync.append("package ").append(packageName).append(".client;\n\n");
+        sync.append("import com.google.gwt.user.client.rpc.RemoteService;\n\n");
+        sync.append("public interface ").append(name).append(" extends RemoteService {\n");
+        async.append("package ").append(packageName).append(".client;\n\n");
+        async.append("import com.google.gwt.user.client.rpc.AsyncCallback;\n\n");
+        async.append("public interface ").append(name).append("Async {\n");
+        impl.append("package ").append(packageName).append(".server;\n\n");
+        impl.append("import com.google.gwt.user.server.rpc.RemoteServiceServlet;\n");
+        impl.append("import ").append(packageName).append(".client.").append(name).append(";\n\n");
+        impl.append("public class ").append(name).append("Impl extends RemoteServiceServlet implements ").append(name).append(" {\n");
+        for (int method = 0; method < SERVICE_METHODS; method++) {
+            sync.append("    String call").append(method).append("(String value, int count);\n\n");
+            async.append("    void call").append(method).append("(String value, int count, AsyncCallback<String> callback);\n\n");
+            impl.append("    public String call").append(method).append("(String value, int count) {\n");
+            impl.append("        return value + count;\n    }\n\n");
+        }
+        sync.append("}\n");
+        async.append("}\n");
+        impl.append("}\n");
+        write(new File(javaDir, "client/" + name + ".java"), sync.toString());
+        write(new File(javaDir, "client/" + name + "Async.java"), async.toString());
+        write(new File(javaDir, "server/" + name + "Impl.java"), impl.toString());
+    }
+
+    private void generateBundle(File javaDir, File resourcesDir, String packageName, int bundle) throws IOException {
+        String name = "Messages" + bundle;
+        StringBuilder java = new StringBuilder();
+        java.append("package ").append(packageName).append(".client;\n\n");
+        java.append("import com.google.gwt.i18n.client.Messages;\n\n");
+        java.append("public interface ").append(name).append(" extends Messages {\n");
+        for (int message = 0; message < BUNDLE_MESSAGES; message++) {
+            java.append("    String message").append(message).append("(String arg0);\n\n");
+        }
+        java.append("}\n");
+        write(new File(javaDir, "client/" + name + ".java"), java.toString());
+
+        write(new File(resourcesDir, "client/" + name + ".properties"), getProperties(bundle, "default"));
+        for (int locale = 0; locale < mySettings.locales; locale++) {
+            write(new File(resourcesDir, "client/" + name + "_" + LOCALES[locale] + ".properties"), getProperties(bundle, LOCALES[locale]));
+        }
+    }
+
+    private static String getProperties(int bundle, String locale) {
+        StringBuilder properties = new StringBuilder();
+        for (int message = 0; message < BUNDLE_MESSAGES; message++) {
+            properties.append("message").append(message).append("=Message ").append(message).append(" of bundle ").append(bundle).append(" (")
+                .append(locale).append("): {0}\n");
+        }
+        return properties.toString();
+    }
+
+    private void generateJsniClass(File file, String packageName, int jsniClass) throws IOException {
+        String className = packageName + ".client.Jsni" + jsniClass;
+        String referencedClass = jsniClass > 0 ? packageName + ".client.Jsni" + (jsniClass - 1) : className;
+        StringBuilder java = new StringBuilder();
+        java.append("package ").append(packageName).append(".client;\n\n");
+        java.append("public class Jsni").append(jsniClass).append(" {\n");
+        for (int member = 0; member < JSNI_MEMBERS; member++) {
+            java.append("    String field").append(member).append(";\n");
+        }
+        java.append('\n');
+        for (int member = 0; member < JSNI_MEMBERS; member++) {
+            java.append("    String method").append(member).append("(String value, int count) {\n");
+            java.append("        return value + count;\n    }\n\n");
+        }
+        for (int member = 0; member < JSNI_MEMBERS; member++) {
+            java.append("    native String run").append(member).append("(String value, int count) /*-{\n");
+            java.append("        this.@").append(className).append("::field").append(member).append(" = value;\n");
+            java.append("        var other = @").append(referencedClass).append("::new()();\n");
+            java.append("        other.@").append(referencedClass).append("::field").append(member).append(" = value;\n");
+            java.append("        return this.@").append(className).append("::method").append(member).append("(Ljava/lang/String;I)(value, count);\n");
+            java.append("    }-*/;\n\n");
+        }
+        java.append("}\n");
+        write(file, java.toString());
+    }
+
+    private void write(File file, String text) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        myFileCount++;
+    }
+
+    private static String getMavenModuleName(int mavenModule) {
+        return "module" + mavenModule;
+    }
+
+    private static String getPackageName(int module) {
+        return ROOT_PACKAGE + ".m" + module;
+    }
+
+    private static String getModuleShortName(int module) {
+        return "Module" + module;
+    }
+
+    private static String getElementId(int module, int element) {
+        return "m" + module + "e" + element;
+    }
+
+    public static class Settings {
+        public int modules = 100;
+        public int mavenModules = 1;
+        public int inheritsDepth = 5;
+        public int services = 10;
+        public int bundles = 5;
+        public int locales = 10;
+        public int jsniClasses = 10;
+        @NonNls
+        public String gwtVersion = "2.8.2";
+
+        void validate() {
+            if (modules < 1 || mavenModules < 1 || mavenModules > modules || inheritsDepth < 1) {
+                throw new IllegalArgumentException("Invalid settings: " + this);
+            }
+            if (services < 0 || bundles < 0 || jsniClasses < 0 || locales < 0 || locales > LOCALES.length) {
+                throw new IllegalArgumentException("Invalid settings: " + this + ", at most " + LOCALES.length + " locales are supported");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "modules=" + modules + ", mavenModules=" + mavenModules + ", inheritsDepth=" + inheritsDepth + ", services=" + services +
+                ", bundles=" + bundles + ", locales=" + locales + ", jsniClasses=" + jsniClasses + ", gwtVersion=" + gwtVersion;
+        }
+    }
+}
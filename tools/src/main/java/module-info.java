@@ -0,0 +1,7 @@
+module com.intellij.gwt.tools
+{
+	requires com.intellij.gwt;
+	requires com.intellij.gwt.base;
+
+	requires consulo.java;
+}